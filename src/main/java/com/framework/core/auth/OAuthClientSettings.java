@@ -0,0 +1,49 @@
+package com.framework.core.auth;
+
+import com.framework.core.config.ConfigManager;
+
+/**
+ * Settings of one OAuth client, read from {@code auth.clients.<name>.*}.
+ *
+ * @param name               client name as used in config and steps
+ * @param tokenUrl           token endpoint
+ * @param grantType          {@code client_credentials} or {@code password}
+ * @param clientId           OAuth client id
+ * @param clientSecret       OAuth client secret (may be empty for public clients)
+ * @param clientAuth         {@code basic} (HTTP Basic header) or {@code post} (form fields)
+ * @param scope              default scope, may be null
+ * @param username           resource owner username (password grant)
+ * @param password           resource owner password (password grant)
+ * @param refreshSkewSeconds refresh this long before the token expires
+ * @param timeoutMs          token request timeout
+ */
+public record OAuthClientSettings(String name, String tokenUrl, String grantType,
+                                  String clientId, String clientSecret, String clientAuth, String scope,
+                                  String username, String password,
+                                  long refreshSkewSeconds, long timeoutMs) {
+
+    public static OAuthClientSettings from(ConfigManager config, String name) {
+        String prefix = "auth.clients." + name + ".";
+        String tokenUrl = config.getString(prefix + "token-url");
+        if (tokenUrl == null) {
+            throw new IllegalArgumentException("No OAuth client configured under '" + prefix + "token-url'");
+        }
+        return new OAuthClientSettings(name, tokenUrl,
+                config.getString(prefix + "grant-type", "client_credentials"),
+                config.getString(prefix + "client-id"),
+                config.getString(prefix + "client-secret", ""),
+                config.getString(prefix + "client-auth", "basic"),
+                config.getString(prefix + "scope"),
+                config.getString(prefix + "username"),
+                config.getString(prefix + "password"),
+                config.getLong(prefix + "refresh-skew-seconds", 30),
+                config.getLong(prefix + "timeout-ms", 10_000));
+    }
+
+    @Override
+    public String toString() {
+        // Never log secrets
+        return "OAuthClientSettings{name='" + name + "', tokenUrl='" + tokenUrl +
+                "', grantType='" + grantType + "', clientId='" + clientId + "', scope='" + scope + "'}";
+    }
+}
@@ -0,0 +1,222 @@
+package com.framework.core.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Suite-wide OAuth access-token cache with single-flight refresh.
+ * <p>
+ * Tokens are cached per environment, client and scope and shared by every
+ * scenario and thread in the JVM — in comparison mode, each compared
+ * environment's client of the same name gets its own token. A token is refreshed {@code refresh-skew-seconds}
+ * before it expires, or half way through its lifetime if that is shorter,
+ * so short-lived tokens are still reused; when many threads need the refresh at once, exactly
+ * one of them calls the identity provider while the others either keep
+ * using the still-valid old token or, if it has already expired, wait for
+ * the new one.
+ * <p>
+ * A single JVM-wide instance is used because clients are created
+ * reflectively by the {@code ProtocolClientFactory}, outside Spring.
+ */
+public final class TokenCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TokenCache GLOBAL = new TokenCache();
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<String, OAuthClientSettings> settings = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder fetches = new LongAdder();
+
+    public static TokenCache global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Return a valid access token for the client, fetching or refreshing it if needed.
+     *
+     * @param config     configuration holding {@code auth.clients.<clientName>.*}
+     * @param clientName configured client name
+     * @param scope      scope to request; null means the client's default scope
+     */
+    public String getToken(ConfigManager config, String clientName, String scope) {
+        OAuthClientSettings client = settings.computeIfAbsent(config.getEnvironment() + '|' + clientName,
+                k -> OAuthClientSettings.from(config, clientName));
+        String effectiveScope = scope != null ? scope : client.scope();
+        Entry entry = entries.computeIfAbsent(key(config, clientName, effectiveScope), k -> new Entry());
+
+        Token current = entry.token;
+        long now = System.currentTimeMillis();
+        if (current != null && !current.needsRefresh(now)) {
+            return current.value();
+        }
+
+        CompletableFuture<Token> refresh;
+        boolean leader = false;
+        synchronized (entry) {
+            current = entry.token;
+            if (current != null && !current.needsRefresh(now)) {
+                return current.value();
+            }
+            if (entry.inFlight == null) {
+                entry.inFlight = new CompletableFuture<>();
+                leader = true;
+            }
+            refresh = entry.inFlight;
+        }
+
+        if (leader) {
+            try {
+                Token fresh = fetch(client, effectiveScope);
+                entry.token = fresh;
+                refresh.complete(fresh);
+            } catch (RuntimeException e) {
+                refresh.completeExceptionally(e);
+                if (current != null && !current.isExpired(System.currentTimeMillis())) {
+                    // An early refresh failed; the old token is still good, try again on the next request
+                    log.warn("Early refresh of OAuth token for client '{}' failed, using the current token: {}",
+                            clientName, e.getMessage());
+                    return current.value();
+                }
+            } finally {
+                synchronized (entry) {
+                    entry.inFlight = null;
+                }
+            }
+        } else if (current != null && !current.isExpired(now)) {
+            // Someone else is refreshing; the old token is still good for a little while
+            return current.value();
+        }
+
+        try {
+            return refresh.join().value();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    /**
+     * Drop a cached token, e.g. after the server rejected it with 401.
+     * Only removes it if it is still the cached one, so a concurrent refresh is not lost.
+     */
+    public void invalidate(ConfigManager config, String clientName, String scope, String token) {
+        OAuthClientSettings client = settings.get(config.getEnvironment() + '|' + clientName);
+        String effectiveScope = scope != null ? scope : client != null ? client.scope() : null;
+        Entry entry = entries.get(key(config, clientName, effectiveScope));
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.token != null && entry.token.value().equals(token)) {
+                    entry.token = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of token requests sent to identity providers so far.
+     */
+    public long fetchCount() {
+        return fetches.sum();
+    }
+
+    // ---- Internal ----
+
+    private static String key(ConfigManager config, String clientName, String scope) {
+        return config.getEnvironment() + '|' + clientName + '|' + (scope != null ? scope : "");
+    }
+
+    private Token fetch(OAuthClientSettings client, String scope) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", client.grantType());
+        if ("password".equals(client.grantType())) {
+            form.put("username", client.username());
+            form.put("password", client.password());
+        }
+        if (scope != null) form.put("scope", scope);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(client.tokenUrl()))
+                .timeout(Duration.ofMillis(client.timeoutMs()))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Accept", "application/json");
+        if ("post".equalsIgnoreCase(client.clientAuth())) {
+            form.put("client_id", client.clientId());
+            form.put("client_secret", client.clientSecret());
+        } else {
+            String basic = client.clientId() + ":" + client.clientSecret();
+            request.header("Authorization", "Basic " +
+                    Base64.getEncoder().encodeToString(basic.getBytes(StandardCharsets.UTF_8)));
+        }
+        String body = form.entrySet().stream()
+                .filter(e -> e.getValue() != null)
+                .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+                .collect(Collectors.joining("&"));
+
+        long start = System.nanoTime();
+        try {
+            fetches.increment();
+            HttpResponse<String> response = http.send(request.POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Token request for client '" + client.name() + "' failed: HTTP "
+                        + response.statusCode() + " " + response.body());
+            }
+            JsonNode json = MAPPER.readTree(response.body());
+            String accessToken = json.path("access_token").asText(null);
+            if (accessToken == null) {
+                throw new IllegalStateException("Token response for client '" + client.name() + "' has no access_token");
+            }
+            long expiresIn = json.path("expires_in").asLong(3600);
+            long now = System.currentTimeMillis();
+            long expiresAt = now + expiresIn * 1000;
+            // A skew as long as the lifetime would refresh on every call
+            long skewMs = Math.min(client.refreshSkewSeconds() * 1000, expiresIn * 1000 / 2);
+            long refreshAt = expiresAt - Math.max(0, skewMs);
+            log.info("Fetched OAuth token for client '{}' scope '{}' in {} ms — expires in {} s",
+                    client.name(), scope, (System.nanoTime() - start) / 1_000_000, expiresIn);
+            return new Token(accessToken, refreshAt, expiresAt);
+        } catch (IOException e) {
+            throw new IllegalStateException("Token request for client '" + client.name() + "' failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching token for client '" + client.name() + "'", e);
+        }
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private record Token(String value, long refreshAtMs, long expiresAtMs) {
+        boolean needsRefresh(long now) { return now >= refreshAtMs; }
+        boolean isExpired(long now)    { return now >= expiresAtMs; }
+    }
+
+    private static final class Entry {
+        volatile Token token;
+        /** Guarded by {@code this} */
+        CompletableFuture<Token> inFlight;
+    }
+}
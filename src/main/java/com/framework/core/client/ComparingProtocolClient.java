@@ -0,0 +1,139 @@
+package com.framework.core.client;
+
+import com.framework.core.compare.ComparisonRecorder;
+import com.framework.core.compare.ComparisonRecorder.Outcome;
+import com.framework.core.compare.ResponseDiff;
+import com.framework.core.config.ConfigManager;
+import com.framework.core.metrics.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Client used by {@link ProtocolClientFactory} in environment comparison
+ * mode ({@code compare.environments}). Every request is sent to all
+ * environments at the same time, each through its own client instance
+ * configured from that environment's overlay. The primary (first)
+ * environment's response is returned to the scenario; latency and
+ * differences of the others are recorded in the {@link ComparisonRecorder}.
+ * <p>
+ * A base URL set by the scenario is ignored here: the targets come from
+ * the environment overlays.
+ */
+final class ComparingProtocolClient implements ProtocolClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ComparingProtocolClient.class);
+
+    /** Differences kept per request and environment */
+    private static final int MAX_DIFFERENCES = 10;
+
+    private final String protocol;
+    private final String primaryEnv;
+    private final ProtocolClient primary;
+    private final Map<String, ProtocolClient> others = new LinkedHashMap<>();
+    private final Set<String> ignoredFields;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param targets initialized clients per environment, primary first
+     */
+    ComparingProtocolClient(String protocol, Map<String, ProtocolClient> targets, Set<String> ignoredFields) {
+        this.protocol = protocol;
+        this.ignoredFields = ignoredFields;
+        var it = targets.entrySet().iterator();
+        var first = it.next();
+        this.primaryEnv = first.getKey();
+        this.primary = first.getValue();
+        it.forEachRemaining(e -> others.put(e.getKey(), e.getValue()));
+    }
+
+    @Override
+    public void init(ConfigManager config) {
+        // Targets are initialized from their own environment overlays by the factory
+    }
+
+    @Override
+    public ProtocolResponse execute(ProtocolRequest request) {
+        if (request.getBaseUrl() != null) {
+            log.debug("Comparison mode: ignoring scenario base URL {}", request.getBaseUrl());
+        }
+        ProtocolRequest shared = request.copy().baseUrl(null);
+
+        Map<String, Future<Outcome>> pending = new LinkedHashMap<>();
+        others.forEach((env, client) -> pending.put(env, executor.submit(() -> call(env, client, shared.copy()))));
+
+        long start = System.nanoTime();
+        ProtocolResponse response = null;
+        Throwable failure = null;
+        try {
+            response = primary.execute(shared);
+            return response;
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            long micros = (System.nanoTime() - start) / 1_000;
+            record(request, new Outcome(primaryEnv, response, failure, micros), pending);
+        }
+    }
+
+    private void record(ProtocolRequest request, Outcome primaryOutcome, Map<String, Future<Outcome>> pending) {
+        List<Outcome> outcomes = new ArrayList<>();
+        outcomes.add(primaryOutcome);
+        Map<String, List<String>> differences = new LinkedHashMap<>();
+        pending.forEach((env, future) -> {
+            Outcome outcome = join(env, future);
+            outcomes.add(outcome);
+            if (primaryOutcome.response() != null && outcome.response() != null) {
+                differences.put(env, ResponseDiff.diff(primaryOutcome.response(), outcome.response(),
+                        ignoredFields, MAX_DIFFERENCES));
+            }
+        });
+        ComparisonRecorder.global().record(
+                LatencyRecorder.endpointKey(protocol, request.getMethod(), request.getEndpoint()),
+                outcomes, differences);
+    }
+
+    private static Outcome call(String env, ProtocolClient client, ProtocolRequest request) {
+        long start = System.nanoTime();
+        try {
+            ProtocolResponse response = client.execute(request);
+            return new Outcome(env, response, null, (System.nanoTime() - start) / 1_000);
+        } catch (Exception e) {
+            // REST Assured rethrows I/O exceptions unchecked, so catch broadly
+            return new Outcome(env, null, e, (System.nanoTime() - start) / 1_000);
+        }
+    }
+
+    private static Outcome join(String env, Future<Outcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(env, null, e, 0);
+        } catch (ExecutionException e) {
+            return new Outcome(env, null, e.getCause(), 0);
+        }
+    }
+
+    @Override
+    public String getProtocolName() {
+        return protocol;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        primary.close();
+        others.values().forEach(ProtocolClient::close);
+    }
+}
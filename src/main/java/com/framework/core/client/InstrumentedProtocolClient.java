@@ -0,0 +1,99 @@
+package com.framework.core.client;
+
+import com.framework.core.config.ConfigManager;
+import com.framework.core.jfr.ProtocolCallEvent;
+import com.framework.core.metrics.LatencyRecorder;
+import com.framework.core.ratelimit.RateLimiter;
+import com.framework.core.tracing.TraceContext;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decorator applied by {@link ProtocolClientFactory} to every client it
+ * hands out. It times each {@link #execute} call and feeds the
+ * run-wide {@link LatencyRecorder} (client time and server timings) and
+ * the request's {@link TraceContext}, so cross-cutting measurements live
+ * in one place instead of in every protocol adapter.
+ * <p>
+ * It also applies the client-side {@link RateLimiter} before each call;
+ * time spent waiting for a permit is recorded on its own and not counted
+ * as endpoint latency. Each call is emitted as a {@link ProtocolCallEvent}
+ * to JDK Flight Recorder.
+ */
+final class InstrumentedProtocolClient implements ProtocolClient {
+
+    private final ProtocolClient delegate;
+    private final ConfigManager config;
+
+    /**
+     * @param config configuration the delegate was initialized with (rate limits)
+     */
+    InstrumentedProtocolClient(ProtocolClient delegate, ConfigManager config) {
+        this.delegate = delegate;
+        this.config = config;
+    }
+
+    /** The wrapped protocol adapter */
+    ProtocolClient delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void init(ConfigManager config) {
+        delegate.init(config);
+    }
+
+    @Override
+    public ProtocolResponse execute(ProtocolRequest request) {
+        long waited = RateLimiter.global().acquire(config, delegate.getProtocolName(), delegate.targetOf(request));
+        ProtocolCallEvent event = ProtocolCallEvent.start();
+        long start = System.nanoTime();
+        ProtocolResponse response = null;
+        try {
+            response = delegate.execute(request);
+            return response;
+        } finally {
+            long micros = (System.nanoTime() - start) / 1_000;
+            String protocol = delegate.getProtocolName();
+            ProtocolResponse received = response;
+            event.finish(protocol, request.getMethod(), request.getEndpoint(),
+                    response != null ? response.getStatusCode() : -1, request::getBodyLength,
+                    () -> received != null ? wireBytes(received) : -1, waited,
+                    request.getTraceContext() != null ? request.getTraceContext().traceId() : null);
+            LatencyRecorder.global().record(protocol, request.getMethod(), request.getEndpoint(), micros);
+            if (response != null) {
+                LatencyRecorder.global().recordServerTimings(protocol, request.getMethod(), request.getEndpoint(),
+                        response.getServerTimings());
+                if (request.getTraceContext() != null && response.getTraceparent() != null) {
+                    request.getTraceContext().record(new TraceContext.Span(
+                            TraceContext.spanIdOf(response.getTraceparent()), protocol, request.getMethod(),
+                            request.getEndpoint(), response.getStatusCode(), micros, response.getServerTimings()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Body bytes as received, before decompression. Uncompressed bodies are
+     * measured as their UTF-8 encoding, not in chars; -1 without a body.
+     */
+    private static long wireBytes(ProtocolResponse response) {
+        if (response.getCompressedSize() >= 0) return response.getCompressedSize();
+        return response.getBody() != null ? response.getBody().getBytes(StandardCharsets.UTF_8).length : -1;
+    }
+
+    @Override
+    public String targetOf(ProtocolRequest request) {
+        return delegate.targetOf(request);
+    }
+
+    @Override
+    public String getProtocolName() {
+        return delegate.getProtocolName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
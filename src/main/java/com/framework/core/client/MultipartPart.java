@@ -0,0 +1,46 @@
+package com.framework.core.client;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * One part of a {@code multipart/form-data} request body.
+ * <p>
+ * Exactly one of {@code file}, {@code bytes} and {@code text} is set. File
+ * parts are read from disk while the request is sent, so large uploads
+ * never have to fit on the heap.
+ *
+ * @param name        form field (control) name
+ * @param fileName    file name sent in {@code Content-Disposition}; null for plain fields
+ * @param file        file to stream, or null
+ * @param bytes       in-memory content, or null
+ * @param text        plain field value, or null
+ * @param contentType content type of the part; null means derived from the content
+ */
+public record MultipartPart(String name, String fileName, Path file, byte[] bytes, String text, String contentType) {
+
+    public static MultipartPart file(String name, Path file, String contentType) {
+        return new MultipartPart(name, file.getFileName().toString(), file, null, null, contentType);
+    }
+
+    public static MultipartPart bytes(String name, String fileName, byte[] bytes, String contentType) {
+        return new MultipartPart(name, fileName, null, bytes, null, contentType);
+    }
+
+    public static MultipartPart text(String name, String value) {
+        return new MultipartPart(name, null, null, null, value, null);
+    }
+
+    /** Size of the content in bytes (text fields as UTF-8) */
+    public long length() {
+        if (file != null) return file.toFile().length();
+        if (bytes != null) return bytes.length;
+        return text != null ? text.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MultipartPart{" + name + (fileName != null ? ", fileName='" + fileName + '\'' : "")
+                + ", length=" + length() + '}';
+    }
+}
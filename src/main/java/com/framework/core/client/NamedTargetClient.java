@@ -0,0 +1,23 @@
+package com.framework.core.client;
+
+import com.framework.core.config.ConfigManager;
+
+/**
+ * A {@link ProtocolClient} whose protocol has named targets — e.g. REST
+ * services under {@code rest.services.<name>} — each served by its own
+ * client instance. {@link ProtocolClientFactory} only accepts a target for
+ * protocols whose client implements this interface.
+ */
+public interface NamedTargetClient extends ProtocolClient {
+
+    /**
+     * Initialize the client for one named target instead of its default
+     * target. Called once per target, on a fresh instance, in place of
+     * {@link #init(ConfigManager)}.
+     *
+     * @param config the global configuration manager
+     * @param target the target's name
+     * @throws IllegalArgumentException if the target is not configured
+     */
+    void init(ConfigManager config, String target);
+}
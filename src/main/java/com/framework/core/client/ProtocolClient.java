@@ -34,6 +34,14 @@ public interface ProtocolClient {
      */
     ProtocolResponse execute(ProtocolRequest request);
 
+    /**
+     * The base URL or host a request goes to, used for per-host limits such
+     * as {@code <protocol>.rate-limit}; null if no per-host limit applies.
+     */
+    default String targetOf(ProtocolRequest request) {
+        return request.getBaseUrl();
+    }
+
     /**
      * Return the protocol identifier this client handles.
      * Examples: "REST", "SOAP", "MQTT", "KAFKA", "GRPC"
@@ -42,7 +50,7 @@ public interface ProtocolClient {
 
     /**
      * Clean up resources (close connections, sessions, etc.).
-     * Called at the end of a test scenario or suite.
+     * Called when the factory is shut down at the end of the suite.
      */
     default void close() {
         // Default no-op; override if cleanup is needed
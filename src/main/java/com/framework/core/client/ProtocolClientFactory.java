@@ -1,13 +1,20 @@
 package com.framework.core.client;
 
+import com.framework.core.compare.ComparisonRecorder;
 import com.framework.core.config.ConfigManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Factory that creates and caches {@link ProtocolClient} instances.
@@ -19,9 +26,24 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * For simpler setups, clients can also be registered programmatically
  * via {@link #register(String, Class)}.
+ * <p>
+ * Every client handed out is wrapped in an {@link InstrumentedProtocolClient},
+ * which records per-endpoint latency for the whole run.
+ * <p>
+ * With {@code compare.environments} listing two or more environments
+ * (e.g. {@code dev,staging}), each protocol gets one client per environment,
+ * configured from that environment's overlay, behind a
+ * {@link ComparingProtocolClient} that sends every request to all of them
+ * concurrently.
+ * <p>
+ * A protocol whose client implements {@link NamedTargetClient} can also
+ * have named targets — e.g. REST services under
+ * {@code rest.services.<name>} — each with its own client instance, cached
+ * separately from the protocol's default client. Clients are shared by all
+ * scenarios and closed when the Spring context shuts down.
  */
 @Component
-public class ProtocolClientFactory {
+public class ProtocolClientFactory implements DisposableBean {
 
     private static final Logger log = LoggerFactory.getLogger(ProtocolClientFactory.class);
 
@@ -30,11 +52,26 @@ public class ProtocolClientFactory {
     /** Registered client classes by protocol name (upper-cased) */
     private final Map<String, Class<? extends ProtocolClient>> registry = new ConcurrentHashMap<>();
 
-    /** Cache of initialized client instances */
+    /** Cache of initialized client instances, by protocol or {@code PROTOCOL/target} */
     private final Map<String, ProtocolClient> instances = new ConcurrentHashMap<>();
 
+    /** Environments compared in comparison mode, primary first; empty when off */
+    private final List<String> compareEnvironments;
+
+    /** Configuration per compared environment */
+    private final Map<String, ConfigManager> environmentConfigs = new ConcurrentHashMap<>();
+
     public ProtocolClientFactory(ConfigManager config) {
         this.config = config;
+        this.compareEnvironments = split(config.getString("compare.environments", ""));
+        if (compareEnvironments.size() == 1) {
+            log.warn("compare.environments lists only '{}' — comparison mode needs at least two", compareEnvironments.get(0));
+        } else if (compareEnvironments.size() > 1) {
+            checkNotOverridden();
+            ComparisonRecorder.global().environments(compareEnvironments);
+            log.info("Environment comparison mode: primary '{}', compared with {}",
+                    compareEnvironments.get(0), compareEnvironments.subList(1, compareEnvironments.size()));
+        }
         discoverClients();
     }
 
@@ -53,22 +90,32 @@ public class ProtocolClientFactory {
      * @return initialized ProtocolClient
      */
     public ProtocolClient getClient(String protocolName) {
-        String key = protocolName.toUpperCase();
+        return getClient(protocolName, null);
+    }
+
+    /**
+     * Get (or create) the client for a named target of a protocol.
+     *
+     * @param protocolName e.g. "REST"
+     * @param target       the target's name (e.g. a service under {@code rest.services}); null for the default
+     * @return initialized ProtocolClient, one instance per target
+     */
+    public ProtocolClient getClient(String protocolName, String target) {
+        String protocol = protocolName.toUpperCase();
+        String key = target != null ? protocol + "/" + target : protocol;
         return instances.computeIfAbsent(key, k -> {
-            Class<? extends ProtocolClient> clazz = registry.get(k);
+            Class<? extends ProtocolClient> clazz = registry.get(protocol);
             if (clazz == null) {
                 throw new IllegalArgumentException(
                         "No ProtocolClient registered for protocol: " + protocolName +
                         ". Available: " + registry.keySet());
             }
-            try {
-                ProtocolClient client = clazz.getDeclaredConstructor().newInstance();
-                client.init(config);
-                log.info("Initialized {} client: {}", k, clazz.getSimpleName());
-                return client;
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to instantiate client for " + protocolName, e);
+            if (compareEnvironments.size() > 1) {
+                return comparingClient(k, clazz, target);
             }
+            ProtocolClient client = create(clazz, config, target);
+            log.info("Initialized {} client: {}", k, clazz.getSimpleName());
+            return new InstrumentedProtocolClient(client, config);
         });
     }
 
@@ -80,7 +127,7 @@ public class ProtocolClientFactory {
     }
 
     /**
-     * Close all active clients. Call this at the end of the test suite.
+     * Close all active clients. Called when the Spring context shuts down.
      */
     public void closeAll() {
         instances.values().forEach(client -> {
@@ -94,6 +141,77 @@ public class ProtocolClientFactory {
         instances.clear();
     }
 
+    @Override
+    public void destroy() {
+        closeAll();
+    }
+
+    /**
+     * One client per compared environment. Only the primary is instrumented,
+     * so the run's endpoint latency stays that of the primary environment;
+     * the others are only rate limited, with their own environment's limits.
+     */
+    private ProtocolClient comparingClient(String protocol, Class<? extends ProtocolClient> clazz, String target) {
+        Map<String, ProtocolClient> targets = new LinkedHashMap<>();
+        for (String env : compareEnvironments) {
+            ConfigManager envConfig = environmentConfigs.computeIfAbsent(env, ConfigManager::new);
+            ProtocolClient client = create(clazz, envConfig, target);
+            targets.put(env, targets.isEmpty()
+                    ? new InstrumentedProtocolClient(client, envConfig)
+                    : new RateLimitedProtocolClient(client, envConfig));
+        }
+        Set<String> ignoredFields = Set.copyOf(split(config.getString("compare.ignore-fields", "")));
+        log.info("Initialized {} comparison client for {}", protocol, compareEnvironments);
+        return new ComparingProtocolClient(protocol, targets, ignoredFields);
+    }
+
+    /**
+     * A system property or environment variable wins over every environment's
+     * YAML, so a key the compared environments set differently (e.g.
+     * {@code -Drest.base-url=...}) would send all of them to the same place
+     * and produce an empty diff.
+     *
+     * @throws IllegalStateException if such a key is overridden
+     */
+    private void checkNotOverridden() {
+        ConfigManager primary = environmentConfigs.computeIfAbsent(compareEnvironments.get(0), ConfigManager::new);
+        for (String env : compareEnvironments.subList(1, compareEnvironments.size())) {
+            Set<String> overridden = primary.overriddenDifferences(
+                    environmentConfigs.computeIfAbsent(env, ConfigManager::new));
+            if (!overridden.isEmpty()) {
+                throw new IllegalStateException("Comparing '" + primary.getEnvironment() + "' with '" + env
+                        + "': " + overridden + " differ between the environments but are overridden by a system"
+                        + " property or environment variable for all of them — remove the override to compare");
+            }
+        }
+    }
+
+    private static ProtocolClient create(Class<? extends ProtocolClient> clazz, ConfigManager config, String target) {
+        try {
+            ProtocolClient client = clazz.getDeclaredConstructor().newInstance();
+            if (target == null) {
+                client.init(config);
+            } else if (client instanceof NamedTargetClient named) {
+                named.init(config, target);
+            } else {
+                throw new IllegalArgumentException(client.getProtocolName() + " client has no named targets");
+            }
+            return client;
+        } catch (IllegalArgumentException e) {
+            // Unknown or unsupported target: a configuration error, not an instantiation failure
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to instantiate client " + clazz.getSimpleName(), e);
+        }
+    }
+
+    private static List<String> split(String list) {
+        return Arrays.stream(list.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Auto-discover ProtocolClient implementations via Java SPI.
      */
@@ -1,5 +1,11 @@
 package com.framework.core.client;
 
+import com.framework.core.tracing.TraceContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,24 +34,57 @@ public class ProtocolRequest {
     /** Path parameters for URL template substitution */
     private final Map<String, String> pathParams = new java.util.LinkedHashMap<>();
 
-    /** Request body (JSON string, XML string, binary as Base64, etc.) */
+    /** Request body (JSON string, XML string, etc.) */
     private String body;
 
+    /** Binary request body, sent as-is */
+    private byte[] bodyBytes;
+
+    /** Binary request body from a buffer (e.g. memory-mapped); sent from its position to its limit */
+    private ByteBuffer bodyBuffer;
+
+    /** File whose content is the request body, streamed from disk while sending */
+    private Path bodyFile;
+
+    /** Parts of a multipart/form-data body */
+    private final List<MultipartPart> multipartParts = new java.util.ArrayList<>();
+
     /** Content type hint (application/json, text/xml, etc.) */
     private String contentType;
 
+    /** Content coding to compress the body with (gzip, deflate); null means send as-is */
+    private String contentEncoding;
+
     /** Timeout in milliseconds; 0 means use default */
     private long timeoutMs;
 
     /** Optional authentication token / key */
     private String authToken;
 
+    /** Optional OAuth client (from auth.clients.*) whose cached token should be used */
+    private String authClient;
+
+    /** Optional OAuth scope to request for {@code authClient}; null means the client's default */
+    private String authScope;
+
     /** Optional basic-auth username */
     private String basicAuthUser;
 
     /** Optional basic-auth password */
     private String basicAuthPassword;
 
+    /** Optional base URL / address overriding the client's configured target */
+    private String baseUrl;
+
+    /** Optional proxy host to route the request through (e.g. a fault injection route) */
+    private String proxyHost;
+
+    /** Proxy port; only used when {@code proxyHost} is set */
+    private int proxyPort;
+
+    /** Trace the request belongs to (W3C trace context); null means a new trace per request */
+    private TraceContext traceContext;
+
     /** Generic bag for protocol-specific extensions */
     private final Map<String, Object> extras = new java.util.LinkedHashMap<>();
 
@@ -81,16 +120,55 @@ public class ProtocolRequest {
         return this;
     }
 
+    // A request has one body: each body setter replaces whatever body was set before
+
     public ProtocolRequest body(String body) {
+        clearBody();
         this.body = body;
         return this;
     }
 
+    public ProtocolRequest body(byte[] body) {
+        clearBody();
+        this.bodyBytes = body;
+        return this;
+    }
+
+    /**
+     * Use the buffer's remaining bytes as the body. The buffer's content is
+     * shared, not copied; its position is not changed.
+     */
+    public ProtocolRequest body(ByteBuffer body) {
+        clearBody();
+        this.bodyBuffer = body != null ? body.slice() : null;
+        return this;
+    }
+
+    public ProtocolRequest bodyFile(Path file) {
+        clearBody();
+        this.bodyFile = file;
+        return this;
+    }
+
+    /** Add a part to a multipart body; the first part replaces any other body */
+    public ProtocolRequest multipart(MultipartPart part) {
+        if (multipartParts.isEmpty()) {
+            clearBody();
+        }
+        this.multipartParts.add(part);
+        return this;
+    }
+
     public ProtocolRequest contentType(String contentType) {
         this.contentType = contentType;
         return this;
     }
 
+    public ProtocolRequest contentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+        return this;
+    }
+
     public ProtocolRequest timeoutMs(long timeoutMs) {
         this.timeoutMs = timeoutMs;
         return this;
@@ -101,17 +179,68 @@ public class ProtocolRequest {
         return this;
     }
 
+    public ProtocolRequest authClient(String clientName, String scope) {
+        this.authClient = clientName;
+        this.authScope = scope;
+        return this;
+    }
+
     public ProtocolRequest basicAuth(String user, String password) {
         this.basicAuthUser = user;
         this.basicAuthPassword = password;
         return this;
     }
 
+    public ProtocolRequest baseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+        return this;
+    }
+
+    public ProtocolRequest proxy(String host, int port) {
+        this.proxyHost = host;
+        this.proxyPort = port;
+        return this;
+    }
+
+    public ProtocolRequest trace(TraceContext traceContext) {
+        this.traceContext = traceContext;
+        return this;
+    }
+
     public ProtocolRequest extra(String key, Object value) {
         this.extras.put(key, value);
         return this;
     }
 
+    /**
+     * Create an independent copy of this request. Maps and multipart parts
+     * are copied; extras values and binary body content are shared.
+     */
+    public ProtocolRequest copy() {
+        ProtocolRequest copy = new ProtocolRequest()
+                .endpoint(endpoint)
+                .method(method)
+                .headers(headers)
+                .contentType(contentType)
+                .contentEncoding(contentEncoding)
+                .timeoutMs(timeoutMs)
+                .authToken(authToken)
+                .authClient(authClient, authScope)
+                .basicAuth(basicAuthUser, basicAuthPassword)
+                .baseUrl(baseUrl)
+                .proxy(proxyHost, proxyPort)
+                .trace(traceContext);
+        copy.body = body;
+        copy.bodyBytes = bodyBytes;
+        copy.bodyBuffer = bodyBuffer != null ? bodyBuffer.duplicate() : null;
+        copy.bodyFile = bodyFile;
+        copy.multipartParts.addAll(multipartParts);
+        copy.queryParams.putAll(queryParams);
+        copy.pathParams.putAll(pathParams);
+        copy.extras.putAll(extras);
+        return copy;
+    }
+
     // ---- Getters ----
 
     public String getEndpoint()          { return endpoint; }
@@ -120,20 +249,56 @@ public class ProtocolRequest {
     public Map<String, String> getQueryParams() { return queryParams; }
     public Map<String, String> getPathParams()  { return pathParams; }
     public String getBody()              { return body; }
+    public byte[] getBodyBytes()         { return bodyBytes; }
+    public ByteBuffer getBodyBuffer()    { return bodyBuffer != null ? bodyBuffer.duplicate() : null; }
+    public Path getBodyFile()            { return bodyFile; }
+    public List<MultipartPart> getMultipartParts() { return multipartParts; }
     public String getContentType()       { return contentType; }
+    public String getContentEncoding()   { return contentEncoding; }
     public long getTimeoutMs()           { return timeoutMs; }
     public String getAuthToken()         { return authToken; }
+    public String getAuthClient()        { return authClient; }
+    public String getAuthScope()         { return authScope; }
     public String getBasicAuthUser()     { return basicAuthUser; }
     public String getBasicAuthPassword() { return basicAuthPassword; }
+    public String getBaseUrl()           { return baseUrl; }
+    public String getProxyHost()         { return proxyHost; }
+    public int getProxyPort()            { return proxyPort; }
+    public TraceContext getTraceContext() { return traceContext; }
     public Map<String, Object> getExtras()      { return extras; }
 
+    /** Whether any kind of body (text, binary, file or multipart) is set */
+    public boolean hasBody() {
+        return body != null || bodyBytes != null || bodyBuffer != null || bodyFile != null
+                || !multipartParts.isEmpty();
+    }
+
+    /** Size of the body in bytes (text bodies as UTF-8) without reading it */
+    public long getBodyLength() {
+        if (bodyBytes != null) return bodyBytes.length;
+        if (bodyBuffer != null) return bodyBuffer.remaining();
+        if (bodyFile != null) return bodyFile.toFile().length();
+        if (!multipartParts.isEmpty()) return multipartParts.stream().mapToLong(MultipartPart::length).sum();
+        return body != null ? body.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    private void clearBody() {
+        this.body = null;
+        this.bodyBytes = null;
+        this.bodyBuffer = null;
+        this.bodyFile = null;
+        this.multipartParts.clear();
+    }
+
     @Override
     public String toString() {
         return "ProtocolRequest{" +
                 "method='" + method + '\'' +
                 ", endpoint='" + endpoint + '\'' +
                 ", contentType='" + contentType + '\'' +
-                ", bodyLength=" + (body != null ? body.length() : 0) +
+                ", bodyLength=" + getBodyLength() +
+                (bodyFile != null ? ", bodyFile=" + bodyFile : "") +
+                (!multipartParts.isEmpty() ? ", parts=" + multipartParts.size() : "") +
                 '}';
     }
 }
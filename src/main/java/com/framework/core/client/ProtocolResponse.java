@@ -1,7 +1,13 @@
 package com.framework.core.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.core.tracing.ServerTiming;
+
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -12,6 +18,8 @@ import java.util.Map;
  */
 public class ProtocolResponse {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     /** HTTP status code, MQTT reason code, or -1 if not applicable */
     private int statusCode = -1;
 
@@ -30,9 +38,24 @@ public class ProtocolResponse {
     /** Content type of the response */
     private String contentType;
 
+    /** Body size as received on the wire (before decompression), or -1 if unknown */
+    private long compressedSize = -1;
+
+    /** Body size after decompression, or -1 if unknown */
+    private long uncompressedSize = -1;
+
+    /** W3C {@code traceparent} the request was sent with, or null if not traced */
+    private String traceparent;
+
+    /** Server-side timing breakdown ({@code Server-Timing} header), empty if none */
+    private List<ServerTiming> serverTimings = Collections.emptyList();
+
     /** Generic bag for protocol-specific data */
     private final Map<String, Object> extras = new LinkedHashMap<>();
 
+    /** Body parsed as JSON, built on first use and shared by all JSON assertions */
+    private JsonNode jsonBody;
+
     // ---- Fluent setters ----
 
     public ProtocolResponse statusCode(int statusCode) {
@@ -52,6 +75,7 @@ public class ProtocolResponse {
 
     public ProtocolResponse body(String body) {
         this.body = body;
+        this.jsonBody = null;
         return this;
     }
 
@@ -65,6 +89,26 @@ public class ProtocolResponse {
         return this;
     }
 
+    public ProtocolResponse compressedSize(long bytes) {
+        this.compressedSize = bytes;
+        return this;
+    }
+
+    public ProtocolResponse uncompressedSize(long bytes) {
+        this.uncompressedSize = bytes;
+        return this;
+    }
+
+    public ProtocolResponse traceparent(String traceparent) {
+        this.traceparent = traceparent;
+        return this;
+    }
+
+    public ProtocolResponse serverTimings(List<ServerTiming> serverTimings) {
+        this.serverTimings = List.copyOf(serverTimings);
+        return this;
+    }
+
     public ProtocolResponse extra(String key, Object value) {
         this.extras.put(key, value);
         return this;
@@ -78,8 +122,32 @@ public class ProtocolResponse {
     public String getBody()                     { return body; }
     public long getResponseTimeMs()             { return responseTimeMs; }
     public String getContentType()              { return contentType; }
+    public long getCompressedSize()             { return compressedSize; }
+    public long getUncompressedSize()           { return uncompressedSize; }
+    public String getTraceparent()              { return traceparent; }
+    public List<ServerTiming> getServerTimings() { return serverTimings; }
     public Map<String, Object> getExtras()      { return Collections.unmodifiableMap(extras); }
 
+    /**
+     * The body parsed as a JSON tree. Parsed once on first call and cached,
+     * so several JSON assertions on the same response share one parse.
+     *
+     * @throws IllegalStateException if the body is not valid JSON
+     */
+    public JsonNode getBodyAsJson() {
+        if (jsonBody == null) {
+            if (body == null || body.isBlank()) {
+                throw new IllegalStateException("Response body is empty, not JSON");
+            }
+            try {
+                jsonBody = MAPPER.readTree(body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Response body is not valid JSON: " + e.getOriginalMessage(), e);
+            }
+        }
+        return jsonBody;
+    }
+
     /**
      * Get a header value (case-insensitive lookup).
      */
@@ -91,13 +159,56 @@ public class ProtocolResponse {
                 .orElse(null);
     }
 
+    /**
+     * Get a server timing metric by name (case-insensitive), or null if the server did not send it.
+     */
+    public ServerTiming getServerTiming(String name) {
+        return serverTimings.stream()
+                .filter(t -> t.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Copy of this response without {@link #getExtras() extras}. Extras can
+     * hold heavyweight protocol objects (e.g. the raw REST Assured response,
+     * which keeps its own copy of the body), so detached copies are what
+     * should be retained across steps.
+     */
+    public ProtocolResponse detach() {
+        ProtocolResponse copy = new ProtocolResponse()
+                .statusCode(statusCode)
+                .statusLine(statusLine)
+                .body(body)
+                .responseTimeMs(responseTimeMs)
+                .contentType(contentType)
+                .compressedSize(compressedSize)
+                .uncompressedSize(uncompressedSize)
+                .traceparent(traceparent)
+                .serverTimings(serverTimings);
+        copy.headers.putAll(headers);
+        return copy;
+    }
+
+    /**
+     * Ratio of uncompressed to on-the-wire body size (e.g. 5.0 for 5x),
+     * 1.0 for uncompressed bodies, or -1 if sizes were not recorded.
+     */
+    public double getCompressionRatio() {
+        if (compressedSize < 0 || uncompressedSize < 0) return -1;
+        if (compressedSize == 0) return uncompressedSize == 0 ? 1.0 : -1;
+        return (double) uncompressedSize / compressedSize;
+    }
+
     @Override
     public String toString() {
         return "ProtocolResponse{" +
                 "statusCode=" + statusCode +
                 ", contentType='" + contentType + '\'' +
                 ", bodyLength=" + (body != null ? body.length() : 0) +
+                ", compressedSize=" + compressedSize +
                 ", responseTimeMs=" + responseTimeMs +
+                (traceparent != null ? ", traceparent='" + traceparent + '\'' : "") +
                 '}';
     }
 }
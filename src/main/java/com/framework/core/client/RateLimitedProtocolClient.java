@@ -0,0 +1,51 @@
+package com.framework.core.client;
+
+import com.framework.core.config.ConfigManager;
+import com.framework.core.ratelimit.RateLimiter;
+
+/**
+ * Decorator that only applies the client-side {@link RateLimiter} before
+ * each call. Used by {@link ProtocolClientFactory} for the secondary
+ * environments in comparison mode: they must respect host limits like any
+ * other client, but are not instrumented, so the run's endpoint latency
+ * stays that of the primary environment.
+ */
+final class RateLimitedProtocolClient implements ProtocolClient {
+
+    private final ProtocolClient delegate;
+    private final ConfigManager config;
+
+    /**
+     * @param config configuration the delegate was initialized with (rate limits)
+     */
+    RateLimitedProtocolClient(ProtocolClient delegate, ConfigManager config) {
+        this.delegate = delegate;
+        this.config = config;
+    }
+
+    @Override
+    public void init(ConfigManager config) {
+        delegate.init(config);
+    }
+
+    @Override
+    public ProtocolResponse execute(ProtocolRequest request) {
+        RateLimiter.global().acquire(config, delegate.getProtocolName(), delegate.targetOf(request));
+        return delegate.execute(request);
+    }
+
+    @Override
+    public String targetOf(ProtocolRequest request) {
+        return delegate.targetOf(request);
+    }
+
+    @Override
+    public String getProtocolName() {
+        return delegate.getProtocolName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.framework.core.compare;
+
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.metrics.LatencyHistogram;
+import com.framework.core.metrics.LatencyStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Run-wide results of environment comparison mode: for every endpoint, the
+ * latency distribution per environment and how often the non-primary
+ * environments answered differently from the primary one.
+ * <p>
+ * A single JVM-wide instance is used because it is filled by reflectively
+ * created clients and read by a Cucumber plugin, both outside Spring.
+ */
+public final class ComparisonRecorder {
+
+    private static final ComparisonRecorder GLOBAL = new ComparisonRecorder();
+
+    /** Differences kept per endpoint for the report */
+    private static final int MAX_SAMPLES = 5;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> overall = new ConcurrentHashMap<>();
+    private volatile List<String> environments = List.of();
+
+    public static ComparisonRecorder global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Result of sending one request to one environment.
+     *
+     * @param response the response, or null if the request failed
+     * @param error    the failure, or null
+     */
+    public record Outcome(String environment, ProtocolResponse response, Throwable error, long micros) {
+    }
+
+    /**
+     * Per-endpoint comparison results.
+     */
+    public static final class Endpoint {
+        private final Map<String, LatencyHistogram> latency = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> mismatches = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final Queue<String> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampleCount = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+
+        public long requests()                  { return requests.sum(); }
+        public LatencyStats latency(String env) { return histogram(latency, env).stats(); }
+        public long mismatches(String env)      { return counter(mismatches, env).sum(); }
+        public long errors(String env)          { return counter(errors, env).sum(); }
+        public List<String> samples()           { return new ArrayList<>(samples); }
+    }
+
+    /** Set once by the client factory when comparison mode starts; the first is the primary */
+    public void environments(List<String> environments) {
+        this.environments = List.copyOf(environments);
+    }
+
+    public List<String> environments() {
+        return environments;
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    /**
+     * Record one request sent to every environment.
+     *
+     * @param outcomes    primary first
+     * @param differences per non-primary environment, differences from the primary response
+     */
+    public void record(String endpointKey, List<Outcome> outcomes, Map<String, List<String>> differences) {
+        Endpoint endpoint = endpoints.computeIfAbsent(endpointKey, k -> new Endpoint());
+        endpoint.requests.increment();
+        for (Outcome outcome : outcomes) {
+            String env = outcome.environment();
+            if (outcome.error() != null) {
+                counter(endpoint.errors, env).increment();
+                addSample(endpoint, env + ": " + outcome.error());
+                continue;
+            }
+            histogram(endpoint.latency, env).recordMicros(outcome.micros());
+            histogram(overall, env).recordMicros(outcome.micros());
+        }
+        differences.forEach((env, diffs) -> {
+            if (!diffs.isEmpty()) {
+                counter(endpoint.mismatches, env).increment();
+                addSample(endpoint, env + ": " + String.join("; ", diffs));
+            }
+        });
+    }
+
+    /** Results per endpoint key, sorted by key */
+    public Map<String, Endpoint> endpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    /** Latency over all endpoints of one environment */
+    public LatencyStats overall(String environment) {
+        return histogram(overall, environment).stats();
+    }
+
+    // ---- Internal ----
+
+    private static void addSample(Endpoint endpoint, String sample) {
+        if (endpoint.sampleCount.incrementAndGet() <= MAX_SAMPLES) {
+            endpoint.samples.add(sample);
+        }
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> map, String env) {
+        return map.computeIfAbsent(env, k -> new LatencyHistogram());
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> map, String env) {
+        return map.computeIfAbsent(env, k -> new LongAdder());
+    }
+}
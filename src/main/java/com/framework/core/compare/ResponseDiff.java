@@ -0,0 +1,96 @@
+package com.framework.core.compare;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.framework.core.client.ProtocolResponse;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Differences between two responses to the same request.
+ * <p>
+ * JSON bodies are compared structurally, so key order and formatting do
+ * not matter, and fields that legitimately differ between environments
+ * (generated ids, timestamps) can be ignored by name. Other bodies are
+ * compared as text.
+ */
+public final class ResponseDiff {
+
+    private ResponseDiff() {
+    }
+
+    /**
+     * @param ignoredFields JSON field names skipped at any depth
+     * @param max           stop after this many differences
+     * @return human-readable differences, empty if the responses match
+     */
+    public static List<String> diff(ProtocolResponse expected, ProtocolResponse actual,
+                                    Set<String> ignoredFields, int max) {
+        List<String> out = new ArrayList<>();
+        if (expected.getStatusCode() != actual.getStatusCode()) {
+            out.add("status: " + expected.getStatusCode() + " vs " + actual.getStatusCode());
+        }
+        JsonNode a = jsonOrNull(expected);
+        JsonNode b = jsonOrNull(actual);
+        if (a != null && b != null) {
+            diff("$", a, b, ignoredFields, max, out);
+        } else if (!String.valueOf(expected.getBody()).equals(String.valueOf(actual.getBody()))) {
+            out.add("body: " + length(expected) + " vs " + length(actual) + " chars, text differs");
+        }
+        return out.size() > max ? out.subList(0, max) : out;
+    }
+
+    private static void diff(String path, JsonNode a, JsonNode b, Set<String> ignored, int max, List<String> out) {
+        if (out.size() >= max) return;
+        if (a.getNodeType() != b.getNodeType()) {
+            out.add(path + ": " + abbreviate(a) + " vs " + abbreviate(b));
+        } else if (a.isObject()) {
+            Set<String> names = new LinkedHashSet<>();
+            a.fieldNames().forEachRemaining(names::add);
+            b.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                if (ignored.contains(name)) continue;
+                String child = path + "." + name;
+                if (!a.has(name)) {
+                    out.add(child + ": missing vs " + abbreviate(b.get(name)));
+                } else if (!b.has(name)) {
+                    out.add(child + ": " + abbreviate(a.get(name)) + " vs missing");
+                } else {
+                    diff(child, a.get(name), b.get(name), ignored, max, out);
+                }
+                if (out.size() >= max) return;
+            }
+        } else if (a.isArray()) {
+            if (a.size() != b.size()) {
+                out.add(path + ": " + a.size() + " vs " + b.size() + " items");
+            }
+            Iterator<JsonNode> ia = a.elements();
+            Iterator<JsonNode> ib = b.elements();
+            for (int i = 0; ia.hasNext() && ib.hasNext() && out.size() < max; i++) {
+                diff(path + "[" + i + "]", ia.next(), ib.next(), ignored, max, out);
+            }
+        } else if (!a.equals(b)) {
+            out.add(path + ": " + abbreviate(a) + " vs " + abbreviate(b));
+        }
+    }
+
+    private static JsonNode jsonOrNull(ProtocolResponse response) {
+        try {
+            return response.getBody() != null && !response.getBody().isBlank() ? response.getBodyAsJson() : null;
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static int length(ProtocolResponse response) {
+        return response.getBody() != null ? response.getBody().length() : 0;
+    }
+
+    private static String abbreviate(JsonNode node) {
+        String s = node.toString();
+        return s.length() > 60 ? s.substring(0, 57) + "..." : s;
+    }
+}
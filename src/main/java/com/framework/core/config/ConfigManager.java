@@ -8,7 +8,11 @@ import org.yaml.snakeyaml.Yaml;
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Hierarchical configuration manager.
@@ -31,6 +35,7 @@ public class ConfigManager {
     private static final Logger log = LoggerFactory.getLogger(ConfigManager.class);
     private static final String BASE_CONFIG = "config/application.yml";
 
+    private final String environment;
     private final Map<String, Object> properties;
 
     public ConfigManager() {
@@ -38,6 +43,7 @@ public class ConfigManager {
     }
 
     public ConfigManager(String environment) {
+        this.environment = environment;
         Map<String, Object> merged = new HashMap<>();
 
         // 1. Load base config
@@ -51,6 +57,11 @@ public class ConfigManager {
         log.info("Configuration loaded for environment '{}' — {} keys", environment, properties.size());
     }
 
+    /** The environment whose YAML overlay was loaded, e.g. {@code dev} */
+    public String getEnvironment() {
+        return environment;
+    }
+
     // ---- Typed getters with defaults ----
 
     public String getString(String key, String defaultValue) {
@@ -77,24 +88,51 @@ public class ConfigManager {
         return val != null ? Long.parseLong(val) : defaultValue;
     }
 
+    public double getDouble(String key, double defaultValue) {
+        String val = resolve(key);
+        return val != null ? Double.parseDouble(val) : defaultValue;
+    }
+
+    /**
+     * Keys whose YAML value differs between this and {@code other}'s
+     * environment but that a system property or environment variable
+     * overrides — so both environments end up with the same value.
+     */
+    public Set<String> overriddenDifferences(ConfigManager other) {
+        Set<String> keys = new HashSet<>(properties.keySet());
+        keys.addAll(other.properties.keySet());
+        Set<String> overridden = new TreeSet<>();
+        for (String key : keys) {
+            if (!Objects.equals(properties.get(key), other.properties.get(key)) && override(key) != null) {
+                overridden.add(key);
+            }
+        }
+        return overridden;
+    }
+
     // ---- Internal ----
 
     /**
      * Resolve a property by key, checking system props → env vars → YAML.
      */
     private String resolve(String key) {
+        String override = override(key);
+        if (override != null) return override;
+
+        // YAML (supports dot-notation flattened keys)
+        Object val = properties.get(key);
+        return val != null ? val.toString() : null;
+    }
+
+    /** The system property or environment variable value for a key, or null */
+    private static String override(String key) {
         // System property: rest.base-url
         String sys = System.getProperty(key);
         if (sys != null) return sys;
 
         // Environment variable: REST_BASE_URL
         String envKey = key.toUpperCase().replace('.', '_').replace('-', '_');
-        String env = System.getenv(envKey);
-        if (env != null) return env;
-
-        // YAML (supports dot-notation flattened keys)
-        Object val = properties.get(key);
-        return val != null ? val.toString() : null;
+        return System.getenv(envKey);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,94 @@
+package com.framework.core.context;
+
+import com.framework.core.client.ProtocolClientFactory;
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of the {@link FeatureSetup} methods of one feature file, shared
+ * by all of its scenarios.
+ * <p>
+ * Values can only be added while setup runs; afterwards the context is
+ * read-only, so scenarios running in parallel see the same, complete data.
+ * Values should themselves be immutable (strings, numbers, records).
+ */
+public final class FeatureContext {
+
+    /** Context of scenarios whose feature has no setup */
+    static final FeatureContext EMPTY = new FeatureContext("", null);
+
+    private final String featureUri;
+    private final ProtocolClientFactory clientFactory;
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    /** Values can be added while true; flipped by {@link FeatureContexts} around setup */
+    private volatile boolean writable;
+
+    FeatureContext(String featureUri, ProtocolClientFactory clientFactory) {
+        this.featureUri = featureUri;
+        this.clientFactory = clientFactory;
+    }
+
+    public String featureUri() {
+        return featureUri;
+    }
+
+    /**
+     * Publish a value to the feature's scenarios.
+     *
+     * @throws IllegalStateException outside {@link FeatureSetup} methods
+     */
+    public void put(String key, Object value) {
+        if (!writable) {
+            throw new IllegalStateException("Feature context of " + featureUri
+                    + " is read-only; values can only be added in @FeatureSetup methods");
+        }
+        synchronized (values) {
+            values.put(key, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        synchronized (values) {
+            return (T) values.get(key);
+        }
+    }
+
+    public boolean has(String key) {
+        synchronized (values) {
+            return values.containsKey(key);
+        }
+    }
+
+    /** A read-only snapshot of all values */
+    public Map<String, Object> values() {
+        synchronized (values) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(values));
+        }
+    }
+
+    /**
+     * Send a request from setup or teardown code, through the same
+     * (instrumented) clients the scenarios use.
+     */
+    public ProtocolResponse execute(String protocol, ProtocolRequest request) {
+        if (clientFactory == null) {
+            throw new IllegalStateException("No feature setup ran for this scenario");
+        }
+        return clientFactory.getClient(protocol).execute(request);
+    }
+
+    void writable(boolean writable) {
+        this.writable = writable;
+    }
+
+    @Override
+    public String toString() {
+        return "FeatureContext{" + featureUri + ", keys=" + values().keySet() + '}';
+    }
+}
@@ -0,0 +1,280 @@
+package com.framework.core.context;
+
+import com.framework.core.client.ProtocolClientFactory;
+import com.framework.core.config.ConfigManager;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs {@link FeatureSetup} / {@link FeatureTeardown} methods once per
+ * feature file and hands each scenario its feature's {@link FeatureContext}.
+ * <p>
+ * {@link #enter} is called before every scenario: the first scenario of a
+ * feature runs the matching setup methods while later scenarios of the
+ * same feature wait for it, so parallel scenarios never see half-built
+ * data. A setup failure is remembered and fails every scenario of the
+ * feature without running setup again.
+ * <p>
+ * Cucumber has no "feature finished" event, so teardown is driven by
+ * {@code feature-context.teardown}:
+ * <ul>
+ *   <li>{@code after-feature} (default) — when a scenario of another
+ *       feature starts and no scenario of this one is running; exact for
+ *       sequential runs, which execute feature by feature. In parallel runs
+ *       a feature torn down early is set up again if it has scenarios left.</li>
+ *   <li>{@code end-of-run} — keep every feature's data until the run ends;
+ *       the safer choice for parallel runs.</li>
+ * </ul>
+ * Whatever is left is torn down when the Spring context closes.
+ */
+@Component
+public class FeatureContexts implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FeatureContexts.class);
+
+    private final ApplicationContext applicationContext;
+    private final ProtocolClientFactory clientFactory;
+    private final boolean teardownAfterFeature;
+
+    private final Map<String, Feature> features = new ConcurrentHashMap<>();
+    private volatile List<Fixture> fixtures;
+
+    /** A {@code @FeatureSetup} or {@code @FeatureTeardown} method */
+    private record Fixture(Object bean, Method method, Expression tags, String expression) {
+
+        boolean matches(Collection<String> scenarioTags) {
+            return tags.evaluate(List.copyOf(scenarioTags));
+        }
+
+        void invoke(FeatureContext feature) throws Exception {
+            try {
+                if (method.getParameterCount() == 0) {
+                    method.invoke(bean);
+                } else {
+                    method.invoke(bean, feature);
+                }
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof Exception cause) throw cause;
+                throw e;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName() + " (" + expression + ")";
+        }
+    }
+
+    /**
+     * Per-feature state. Everything but {@code running} is guarded by
+     * {@code lock}, which is held while the feature's fixtures run; only the
+     * feature's own scenarios ever wait for it, other features just
+     * {@code tryLock} it.
+     */
+    private final class Feature {
+        final String uri;
+        final ReentrantLock lock = new ReentrantLock();
+        /** Scenarios of the feature that have entered and not yet left */
+        final AtomicInteger running = new AtomicInteger();
+        FeatureContext context;
+        final Set<Fixture> setUp = new LinkedHashSet<>();
+        final Set<Fixture> teardowns = new LinkedHashSet<>();
+        Exception failure;
+        boolean tornDown;
+
+        Feature(String uri) {
+            this.uri = uri;
+            this.context = new FeatureContext(uri, clientFactory);
+        }
+    }
+
+    public FeatureContexts(ApplicationContext applicationContext, ProtocolClientFactory clientFactory,
+                           ConfigManager config) {
+        this.applicationContext = applicationContext;
+        this.clientFactory = clientFactory;
+        this.teardownAfterFeature = !"end-of-run".equalsIgnoreCase(
+                config.getString("feature-context.teardown", "after-feature"));
+    }
+
+    /**
+     * A scenario of the feature starts: run any setup its tags call for that
+     * has not run for the feature yet.
+     *
+     * @return the feature's context, read-only
+     * @throws IllegalStateException if the feature's setup failed
+     */
+    public FeatureContext enter(String featureUri, Collection<String> scenarioTags) {
+        List<Fixture> all = fixtures();
+        if (teardownAfterFeature) {
+            tearDownIdleFeatures(featureUri);
+        }
+        if (all.isEmpty()) {
+            return FeatureContext.EMPTY;
+        }
+
+        Feature feature = features.computeIfAbsent(featureUri, Feature::new);
+        // Counted before locking, so an idle-feature teardown that starts now is followed by a new setup
+        feature.running.incrementAndGet();
+        feature.lock.lock();
+        try {
+            if (feature.failure != null) {
+                throw new IllegalStateException("Feature setup failed for " + featureUri, feature.failure);
+            }
+            if (feature.tornDown) {
+                log.warn("Feature {} was torn down while it still had scenarios to run; setting it up again "
+                        + "(use feature-context.teardown: end-of-run for parallel runs)", featureUri);
+                feature.context = new FeatureContext(featureUri, clientFactory);
+                feature.setUp.clear();
+                feature.teardowns.clear();
+                feature.tornDown = false;
+            }
+            for (Fixture fixture : all) {
+                boolean setup = fixture.method().isAnnotationPresent(FeatureSetup.class);
+                if (!fixture.matches(scenarioTags)) continue;
+                if (!setup) {
+                    feature.teardowns.add(fixture);
+                } else if (feature.setUp.add(fixture)) {
+                    runSetup(feature, fixture);
+                }
+            }
+            return feature.context;
+        } finally {
+            feature.lock.unlock();
+        }
+    }
+
+    /**
+     * A scenario of the feature finished (whether or not {@link #enter} succeeded).
+     */
+    public void leave(String featureUri) {
+        Feature feature = features.get(featureUri);
+        if (feature != null) {
+            feature.running.updateAndGet(n -> Math.max(0, n - 1));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        features.values().forEach(feature -> {
+            feature.lock.lock();
+            try {
+                tearDown(feature);
+            } finally {
+                feature.lock.unlock();
+            }
+        });
+        features.clear();
+    }
+
+    // ---- Internal ----
+
+    private void runSetup(Feature feature, Fixture fixture) {
+        long start = System.nanoTime();
+        feature.context.writable(true);
+        try {
+            fixture.invoke(feature.context);
+            log.info("Feature setup {} for {} took {} ms", fixture, feature.uri, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            feature.failure = e;
+            throw new IllegalStateException("Feature setup " + fixture + " failed for " + feature.uri, e);
+        } finally {
+            feature.context.writable(false);
+        }
+    }
+
+    /**
+     * Never waits for another feature: one whose scenarios are running, or
+     * whose setup or teardown is in progress, is skipped this time.
+     */
+    private void tearDownIdleFeatures(String currentUri) {
+        for (Feature feature : features.values()) {
+            if (feature.uri.equals(currentUri) || feature.running.get() > 0 || !feature.lock.tryLock()) continue;
+            try {
+                if (feature.running.get() == 0) {
+                    tearDown(feature);
+                }
+            } finally {
+                feature.lock.unlock();
+            }
+        }
+    }
+
+    /** Caller holds the feature's lock */
+    private void tearDown(Feature feature) {
+        if (feature.tornDown || (feature.setUp.isEmpty() && feature.teardowns.isEmpty())) {
+            return;
+        }
+        feature.tornDown = true;
+        List<Fixture> reversed = new ArrayList<>(feature.teardowns);
+        Collections.reverse(reversed);
+        for (Fixture fixture : reversed) {
+            try {
+                fixture.invoke(feature.context);
+                log.info("Feature teardown {} for {} done", fixture, feature.uri);
+            } catch (Exception e) {
+                log.warn("Feature teardown {} failed for {}: {}", fixture, feature.uri, e.toString());
+            }
+        }
+    }
+
+    /** Setup and teardown methods of all singleton beans, found on first use */
+    private List<Fixture> fixtures() {
+        List<Fixture> found = fixtures;
+        if (found == null) {
+            synchronized (this) {
+                if (fixtures == null) {
+                    fixtures = discover();
+                }
+                found = fixtures;
+            }
+        }
+        return found;
+    }
+
+    private List<Fixture> discover() {
+        List<Fixture> found = new ArrayList<>();
+        for (String name : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(name);
+            if (type == null) continue;
+            for (Method method : ClassUtils.getUserClass(type).getMethods()) {
+                String expression = method.isAnnotationPresent(FeatureSetup.class)
+                        ? method.getAnnotation(FeatureSetup.class).value()
+                        : method.isAnnotationPresent(FeatureTeardown.class)
+                        ? method.getAnnotation(FeatureTeardown.class).value()
+                        : null;
+                if (expression == null) continue;
+                if (!applicationContext.isSingleton(name)) {
+                    throw new IllegalStateException(method + " must be declared on a singleton @Component, not on '"
+                            + name + "'");
+                }
+                if (method.getParameterCount() > 1 || (method.getParameterCount() == 1
+                        && method.getParameterTypes()[0] != FeatureContext.class)) {
+                    throw new IllegalStateException(method + " must take no parameters or a FeatureContext");
+                }
+                found.add(new Fixture(applicationContext.getBean(name), method,
+                        TagExpressionParser.parse(expression), expression));
+            }
+        }
+        log.info("Feature fixtures: {}", found);
+        return List.copyOf(found);
+    }
+}
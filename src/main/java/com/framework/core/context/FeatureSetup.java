@@ -0,0 +1,41 @@
+package com.framework.core.context;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of a Spring {@code @Component} as feature setup: it runs
+ * once per feature file, before the first scenario whose tags match
+ * {@link #value()}, instead of before every scenario like a
+ * {@code Background}.
+ * <p>
+ * The method takes a {@link FeatureContext} (or nothing) and publishes its
+ * results with {@link FeatureContext#put}; scenarios read them through
+ * {@link TestContext#getFeature()} and as {@code {key}} placeholders.
+ *
+ * <pre>
+ * &#64;Component
+ * public class UserFixtures {
+ *     &#64;FeatureSetup("&#64;needs-user")
+ *     public void createUser(FeatureContext feature) {
+ *         ProtocolResponse created = feature.execute("REST", new ProtocolRequest()
+ *                 .method("POST").endpoint("/users").body("{\"name\":\"qa\"}"));
+ *         feature.put("userId", created.getBodyAsJson().path("id").asText());
+ *     }
+ * }
+ * </pre>
+ *
+ * @see FeatureTeardown
+ * @see FeatureContexts
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface FeatureSetup {
+
+    /** Cucumber tag expression selecting the scenarios (and so features) the setup is for */
+    String value();
+}
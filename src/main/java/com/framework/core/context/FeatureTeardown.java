@@ -0,0 +1,25 @@
+package com.framework.core.context;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of a Spring {@code @Component} as feature teardown: it runs
+ * once after the last scenario of a feature in which a scenario matching
+ * {@link #value()} ran, and receives the feature's {@link FeatureContext}.
+ * Failures are logged, not rethrown, so every teardown gets its turn.
+ *
+ * @see FeatureSetup
+ * @see FeatureContexts
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface FeatureTeardown {
+
+    /** Cucumber tag expression selecting the scenarios (and so features) the teardown is for */
+    String value();
+}
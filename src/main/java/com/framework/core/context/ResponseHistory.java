@@ -0,0 +1,250 @@
+package com.framework.core.context;
+
+import com.framework.core.client.ProtocolResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, named history of the responses received in one scenario.
+ * <p>
+ * Every response is recorded (as {@code #1}, {@code #2}, ...) and can be
+ * given a name. The newest entries are kept in full — detached from
+ * protocol extras such as the raw REST Assured response — until either
+ * {@code maxFullEntries} or {@code maxFullBytes} is exceeded; older ones
+ * are then reduced to a {@link Entry summary}: status, headers, body size,
+ * a SHA-256 digest and a short preview. Summaries beyond
+ * {@code maxSummaries} are dropped entirely.
+ * <p>
+ * Memory is estimated from body and header sizes and logged so long
+ * chained scenarios show what they retain.
+ */
+public class ResponseHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseHistory.class);
+
+    /** Rough fixed cost of an entry and its maps, in bytes */
+    private static final long ENTRY_OVERHEAD = 256;
+
+    private final int maxFullEntries;
+    private final long maxFullBytes;
+    private final int previewChars;
+    private final int maxSummaries;
+
+    /** Oldest first */
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final Map<String, Entry> byName = new LinkedHashMap<>();
+
+    private int sequence;
+    private int fullCount;
+    private long fullBytes;
+    private long summaryBytes;
+    private long peakBytes;
+    private int demoted;
+
+    public ResponseHistory(int maxFullEntries, long maxFullBytes, int previewChars, int maxSummaries) {
+        this.maxFullEntries = maxFullEntries;
+        this.maxFullBytes = maxFullBytes;
+        this.previewChars = previewChars;
+        this.maxSummaries = maxSummaries;
+    }
+
+    /**
+     * One recorded response. {@link #response()} is null once the entry has
+     * been reduced to a summary.
+     */
+    public static final class Entry {
+        private final String id;
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final long bodyChars;
+        private final long estimatedBytes;
+        private ProtocolResponse response;
+        private String bodyDigest;
+        private String bodyPreview;
+        private String name;
+
+        private Entry(String id, ProtocolResponse response) {
+            this.id = id;
+            this.response = response;
+            this.statusCode = response.getStatusCode();
+            this.headers = response.getHeaders();
+            this.bodyChars = response.getBody() != null ? response.getBody().length() : 0;
+            this.estimatedBytes = estimate(response);
+        }
+
+        public String id()                      { return id; }
+        public String name()                    { return name; }
+        public int statusCode()                 { return statusCode; }
+        public Map<String, String> headers()    { return headers; }
+        public long bodyChars()                 { return bodyChars; }
+        public boolean isFull()                 { return response != null; }
+        public ProtocolResponse response()      { return response; }
+        public String bodyDigest()              { return bodyDigest; }
+        public String bodyPreview()             { return bodyPreview; }
+
+        @Override
+        public String toString() {
+            return "Entry{" + id + (name != null ? " '" + name + "'" : "") +
+                    ", status=" + statusCode + ", bodyChars=" + bodyChars +
+                    (isFull() ? "" : ", summarized, sha256=" + bodyDigest) + '}';
+        }
+    }
+
+    /**
+     * Record a response. Protocol extras are not retained.
+     *
+     * @return the new entry
+     */
+    public synchronized Entry add(ProtocolResponse response) {
+        Entry entry = new Entry("#" + (++sequence), response.detach());
+        entries.addLast(entry);
+        fullCount++;
+        fullBytes += entry.estimatedBytes;
+        enforceLimits();
+        log.debug("Response history: {}", describe());
+        return entry;
+    }
+
+    /**
+     * Give the most recent entry a name (replacing any entry previously so named).
+     */
+    public synchronized void nameLatest(String name) {
+        Entry latest = entries.peekLast();
+        if (latest == null) {
+            throw new IllegalStateException("No response has been received yet in this scenario");
+        }
+        Entry previous = byName.put(name, latest);
+        if (previous != null && previous != latest) previous.name = null;
+        latest.name = name;
+    }
+
+    /**
+     * Look up an entry by name or by {@code #n} id.
+     *
+     * @return the entry, or null if unknown or already dropped
+     */
+    public synchronized Entry get(String nameOrId) {
+        Entry named = byName.get(nameOrId);
+        if (named != null) return named;
+        for (Entry e : entries) {
+            if (e.id.equals(nameOrId)) return e;
+        }
+        return null;
+    }
+
+    /**
+     * Look up the full response; fails with a clear message if it was summarized.
+     */
+    public synchronized ProtocolResponse getFull(String nameOrId) {
+        Entry entry = get(nameOrId);
+        if (entry == null) {
+            throw new IllegalArgumentException("No saved response '" + nameOrId + "' (known: " + byName.keySet() + ")");
+        }
+        if (!entry.isFull()) {
+            throw new IllegalStateException("Saved response '" + nameOrId + "' was reduced to a summary to stay within " +
+                    "the history limits (" + maxFullEntries + " responses / " + maxFullBytes + " bytes): " + entry);
+        }
+        return entry.response;
+    }
+
+    /** Estimated bytes currently retained by full entries and summaries */
+    public synchronized long retainedBytes() {
+        return fullBytes + summaryBytes;
+    }
+
+    /** Highest value of {@link #retainedBytes()} seen so far */
+    public synchronized long peakBytes() {
+        return peakBytes;
+    }
+
+    public synchronized Map<String, Entry> named() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(byName));
+    }
+
+    public synchronized String describe() {
+        return String.format("%d full (%d KB), %d summarized (%d KB), %d demoted so far, peak %d KB",
+                fullCount, fullBytes / 1024, entries.size() - fullCount, summaryBytes / 1024,
+                demoted, peakBytes / 1024);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        byName.clear();
+        fullCount = 0;
+        fullBytes = 0;
+        summaryBytes = 0;
+    }
+
+    // ---- Internal ----
+
+    private void enforceLimits() {
+        peakBytes = Math.max(peakBytes, fullBytes + summaryBytes);
+        Iterator<Entry> it = entries.iterator();
+        // Never demote the newest entry: it is usually the one about to be asserted on
+        while ((fullCount > maxFullEntries || fullBytes > maxFullBytes) && fullCount > 1 && it.hasNext()) {
+            Entry e = it.next();
+            if (e.isFull() && e != entries.peekLast()) {
+                summarize(e);
+            }
+        }
+        int summaries = entries.size() - fullCount;
+        Iterator<Entry> oldest = entries.iterator();
+        while (summaries > maxSummaries && oldest.hasNext()) {
+            Entry e = oldest.next();
+            if (!e.isFull()) {
+                oldest.remove();
+                if (e.name != null) byName.remove(e.name);
+                summaryBytes -= summaryCost(e);
+                summaries--;
+            }
+        }
+    }
+
+    private void summarize(Entry e) {
+        String body = e.response.getBody();
+        e.bodyDigest = body != null ? sha256(body) : null;
+        e.bodyPreview = body != null && body.length() > previewChars ? body.substring(0, previewChars) + "..." : body;
+        e.response = null;
+        fullCount--;
+        fullBytes -= e.estimatedBytes;
+        summaryBytes += summaryCost(e);
+        demoted++;
+        log.debug("Response history: summarized {} to stay within limits", e);
+    }
+
+    private static long summaryCost(Entry e) {
+        long headerBytes = e.headers.entrySet().stream()
+                .mapToLong(h -> 2L * (h.getKey().length() + (h.getValue() != null ? h.getValue().length() : 0)))
+                .sum();
+        long preview = e.bodyPreview != null ? 2L * e.bodyPreview.length() : 0;
+        return ENTRY_OVERHEAD + headerBytes + preview + 128;
+    }
+
+    private static long estimate(ProtocolResponse r) {
+        long headerBytes = r.getHeaders().entrySet().stream()
+                .mapToLong(h -> 2L * (h.getKey().length() + (h.getValue() != null ? h.getValue().length() : 0)))
+                .sum();
+        long body = r.getBody() != null ? 2L * r.getBody().length() : 0;
+        return ENTRY_OVERHEAD + headerBytes + body;
+    }
+
+    private static String sha256(String body) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -4,11 +4,18 @@ import com.framework.core.client.ProtocolClientFactory;
 import com.framework.core.client.ProtocolRequest;
 import com.framework.core.client.ProtocolResponse;
 import com.framework.core.config.ConfigManager;
+import com.framework.core.network.FaultInjectionProxy;
+import com.framework.core.network.NetworkConditions;
+import com.framework.core.tracing.TraceContext;
 import io.cucumber.spring.ScenarioScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Scenario-scoped test context shared across step definitions via
@@ -21,7 +28,11 @@ import java.util.Map;
  * <ul>
  *   <li>The current request being built</li>
  *   <li>The last response received</li>
+ *   <li>A bounded history of earlier responses, optionally named</li>
+ *   <li>An optional fault injection route all requests are sent through</li>
+ *   <li>The scenario's trace, shared by all of its requests</li>
  *   <li>Shared variables for data-driven tests</li>
+ *   <li>The read-only results of the feature's {@link FeatureSetup} methods</li>
  *   <li>Access to the protocol client factory</li>
  * </ul>
  */
@@ -29,11 +40,19 @@ import java.util.Map;
 @ScenarioScope
 public class TestContext {
 
+    private static final Logger log = LoggerFactory.getLogger(TestContext.class);
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^{}]+)}");
+
     private final ConfigManager config;
     private final ProtocolClientFactory clientFactory;
 
     private ProtocolRequest currentRequest;
     private ProtocolResponse lastResponse;
+    private final ResponseHistory history;
+    private FaultInjectionProxy.Route networkRoute;
+    private String baseUrl;
+    private final TraceContext trace;
+    private FeatureContext feature = FeatureContext.EMPTY;
 
     /** Shared key-value store for passing data between steps */
     private final Map<String, Object> scenarioData = new HashMap<>();
@@ -41,6 +60,14 @@ public class TestContext {
     public TestContext(ConfigManager config, ProtocolClientFactory clientFactory) {
         this.config = config;
         this.clientFactory = clientFactory;
+        this.history = new ResponseHistory(
+                config.getInt("context.history.max-responses", 20),
+                config.getLong("context.history.max-bytes", 16L * 1024 * 1024),
+                config.getInt("context.history.preview-chars", 256),
+                config.getInt("context.history.max-summaries", 500));
+        this.trace = new TraceContext(
+                config.getBoolean("tracing.sampled", true),
+                config.getInt("tracing.max-spans", 200));
     }
 
     // ---- Config & Factory ----
@@ -59,25 +86,107 @@ public class TestContext {
      * Start building a new request. Resets any previous request state.
      */
     public ProtocolRequest newRequest() {
-        this.currentRequest = new ProtocolRequest();
+        this.currentRequest = prepared(new ProtocolRequest());
         return this.currentRequest;
     }
 
     public ProtocolRequest getCurrentRequest() {
         if (currentRequest == null) {
-            currentRequest = new ProtocolRequest();
+            currentRequest = prepared(new ProtocolRequest());
         }
         return currentRequest;
     }
 
+    /**
+     * Send this and all later requests of the scenario to another base URL
+     * instead of the client's configured one.
+     */
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+        getCurrentRequest().baseUrl(baseUrl);
+    }
+
+    // ---- Network conditions ----
+
+    /**
+     * Degrade the network for the rest of the scenario. The first call opens
+     * a route on the shared {@link FaultInjectionProxy}; the current and all
+     * later requests (and copies of them) are sent through it.
+     */
+    public void setNetworkConditions(NetworkConditions conditions) {
+        if (networkRoute == null) {
+            networkRoute = FaultInjectionProxy.global().openRoute(conditions);
+            prepared(getCurrentRequest());
+        } else {
+            networkRoute.conditions(conditions);
+        }
+    }
+
+    public NetworkConditions getNetworkConditions() {
+        return networkRoute != null ? networkRoute.conditions() : NetworkConditions.NONE;
+    }
+
+    // ---- Tracing ----
+
+    /**
+     * The scenario's W3C trace: every request of the scenario is sent as a
+     * new span of it, and finished requests are recorded on it.
+     */
+    public TraceContext getTrace() {
+        return trace;
+    }
+
+    /** Attach the scenario's base URL, trace and network route to a new request */
+    private ProtocolRequest prepared(ProtocolRequest request) {
+        request.trace(trace).baseUrl(baseUrl);
+        return networkRoute != null ? request.proxy(networkRoute.host(), networkRoute.port()) : request;
+    }
+
     // ---- Response ----
 
     public ProtocolResponse getLastResponse() {
         return lastResponse;
     }
 
+    /**
+     * Make the response the one subsequent assertions run against, and record it in the history.
+     */
     public void setLastResponse(ProtocolResponse response) {
         this.lastResponse = response;
+        if (response != null) {
+            history.add(response);
+        }
+    }
+
+    // ---- Response history ----
+
+    public ResponseHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Name the last response so later steps can refer back to it.
+     */
+    public void saveLastResponse(String name) {
+        history.nameLatest(name);
+    }
+
+    /**
+     * A previously saved response, by name or {@code #n} id.
+     *
+     * @throws IllegalStateException if it has been reduced to a summary
+     */
+    public ProtocolResponse getSavedResponse(String name) {
+        return history.getFull(name);
+    }
+
+    /**
+     * Make a saved response the last response again, so the regular response
+     * assertions apply to it. It is not recorded in the history a second time.
+     */
+    public ProtocolResponse useSavedResponse(String name) {
+        this.lastResponse = history.getFull(name);
+        return lastResponse;
     }
 
     // ---- Execute shortcut ----
@@ -87,7 +196,7 @@ public class TestContext {
      */
     public ProtocolResponse execute(String protocol) {
         ProtocolResponse response = clientFactory.getClient(protocol).execute(currentRequest);
-        this.lastResponse = response;
+        setLastResponse(response);
         return response;
     }
 
@@ -98,6 +207,43 @@ public class TestContext {
         return execute("REST");
     }
 
+    /**
+     * Execute the current request against a named REST service
+     * ({@code rest.services.<name>}) and store the response. The service's
+     * base URL takes precedence over the scenario's.
+     */
+    public ProtocolResponse executeRest(String service) {
+        ProtocolResponse response = executeOn("REST", service, currentRequest);
+        setLastResponse(response);
+        return response;
+    }
+
+    /**
+     * Execute a request with the client of a named target without storing
+     * the response, so requests to several targets can be sent from
+     * parallel threads. The request is copied and sent to the target's
+     * configured base URL; record the responses with
+     * {@link #setLastResponse} once they are all in.
+     */
+    public ProtocolResponse executeOn(String protocol, String target, ProtocolRequest request) {
+        return clientFactory.getClient(protocol, target).execute(request.copy().baseUrl(null));
+    }
+
+    // ---- Feature context ----
+
+    /**
+     * Results of the feature's {@link FeatureSetup} methods, shared read-only
+     * by all scenarios of the feature.
+     */
+    public FeatureContext getFeature() {
+        return feature;
+    }
+
+    /** Set by the hooks before the scenario's first step */
+    public void setFeature(FeatureContext feature) {
+        this.feature = feature != null ? feature : FeatureContext.EMPTY;
+    }
+
     // ---- Scenario data store ----
 
     public void set(String key, Object value) {
@@ -115,12 +261,40 @@ public class TestContext {
         return val != null ? val : defaultValue;
     }
 
+    /**
+     * Replace {@code {key}} placeholders with values stored in the scenario
+     * data (e.g. by "I store the JSON path ... as ...") or, failing that, in
+     * the feature context. Unknown placeholders are left untouched so they
+     * can still be used as REST path parameters.
+     */
+    public String resolve(String template) {
+        if (template == null || template.indexOf('{') < 0) {
+            return template;
+        }
+        Matcher m = PLACEHOLDER.matcher(template);
+        StringBuilder sb = new StringBuilder();
+        while (m.find()) {
+            Object value = scenarioData.containsKey(m.group(1)) ? scenarioData.get(m.group(1)) : feature.get(m.group(1));
+            m.appendReplacement(sb, Matcher.quoteReplacement(value != null ? value.toString() : m.group()));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
     // ---- Cleanup ----
 
     public void cleanup() {
-        clientFactory.closeAll();
+        if (history.peakBytes() > 0) {
+            log.info("Response history: {}", history.describe());
+        }
+        history.clear();
+        if (networkRoute != null) {
+            networkRoute.close();
+            networkRoute = null;
+        }
         scenarioData.clear();
         currentRequest = null;
         lastResponse = null;
+        feature = FeatureContext.EMPTY;
     }
 }
@@ -0,0 +1,125 @@
+package com.framework.core.data;
+
+import com.framework.core.client.ProtocolClient;
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Streams a data file row by row and sends one request per row with a
+ * bounded number of requests in flight.
+ * <p>
+ * The reader only advances when a permit is free, so at most
+ * {@code concurrency} rows (and their responses) are alive at any time.
+ * Each response is checked against the configured {@link RowCheck}s and
+ * then dropped; only aggregates are kept in the {@link DataDrivenResult}.
+ * <p>
+ * Requests run on virtual threads — they are cheap to create and the
+ * semaphore, not the thread pool, is what limits concurrency.
+ */
+public class DataDrivenExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(DataDrivenExecutor.class);
+
+    /**
+     * A per-row assertion.
+     */
+    @FunctionalInterface
+    public interface RowCheck {
+        /**
+         * @return {@code null} if the response is acceptable, otherwise a failure message
+         */
+        String verify(DataRow row, ProtocolResponse response);
+    }
+
+    private final ProtocolClient client;
+    private final int concurrency;
+    private final int maxReportedFailures;
+
+    public DataDrivenExecutor(ProtocolClient client, int concurrency, int maxReportedFailures) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, got " + concurrency);
+        }
+        this.client = client;
+        this.concurrency = concurrency;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    /**
+     * Run every row of {@code dataFile} through the client.
+     *
+     * @param dataFile       classpath resource or file path (.csv / .jsonl / .ndjson)
+     * @param requestFactory builds the request for a row
+     * @param checks         assertions applied to every response
+     * @return aggregated result
+     */
+    public DataDrivenResult run(String dataFile,
+                                Function<DataRow, ProtocolRequest> requestFactory,
+                                List<RowCheck> checks) {
+        DataDrivenResult result = new DataDrivenResult(maxReportedFailures);
+        Semaphore inFlight = new Semaphore(concurrency);
+        long start = System.nanoTime();
+
+        log.info("Data-driven run started — file={}, concurrency={}", dataFile, concurrency);
+        try (DataFileReader reader = new DataFileReader(dataFile);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            DataRow row;
+            while ((row = reader.next()) != null) {
+                inFlight.acquireUninterruptibly();
+                DataRow current = row;
+                executor.execute(() -> {
+                    try {
+                        runRow(current, requestFactory, checks, result);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close data file: " + dataFile, e);
+        }
+
+        result.wallTimeMs((System.nanoTime() - start) / 1_000_000);
+        log.info("Data-driven run finished — {}", result);
+        return result;
+    }
+
+    private void runRow(DataRow row,
+                        Function<DataRow, ProtocolRequest> requestFactory,
+                        List<RowCheck> checks,
+                        DataDrivenResult result) {
+        if (row.isMalformed()) {
+            result.recordMalformed(row);
+            return;
+        }
+        ProtocolResponse response;
+        try {
+            response = client.execute(requestFactory.apply(row));
+        } catch (RuntimeException e) {
+            result.recordError(row, e);
+            return;
+        }
+        result.recordResponse(response.getStatusCode(), response.getResponseTimeMs());
+        for (RowCheck check : checks) {
+            String failure;
+            try {
+                failure = check.verify(row, response);
+            } catch (RuntimeException e) {
+                failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+            if (failure != null) {
+                result.recordFailure(row, failure);
+                return;
+            }
+        }
+    }
+}
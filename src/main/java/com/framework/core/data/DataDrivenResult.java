@@ -0,0 +1,125 @@
+package com.framework.core.data;
+
+import com.framework.core.metrics.LatencyHistogram;
+import com.framework.core.metrics.LatencyStats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated outcome of a data-driven run.
+ * <p>
+ * Only fixed-size aggregates are kept — counters, a {@link LatencyHistogram}
+ * (the same one behind the latency reports and baseline) and the first
+ * {@code maxFailures} failure messages — so the
+ * footprint stays constant regardless of how many rows are processed.
+ * All methods are thread-safe.
+ */
+public class DataDrivenResult {
+
+    private final int maxFailures;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final List<String> firstFailures = new ArrayList<>();
+
+    private volatile long wallTimeMs;
+
+    public DataDrivenResult(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    // ---- Recording ----
+
+    void recordResponse(int statusCode, long responseTimeMs) {
+        total.increment();
+        statusCounts.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+        latency.recordMicros(responseTimeMs * 1_000);
+    }
+
+    void recordFailure(DataRow row, String message) {
+        failed.increment();
+        synchronized (firstFailures) {
+            if (firstFailures.size() < maxFailures) {
+                firstFailures.add("line " + row.lineNumber() + ": " + message);
+            }
+        }
+    }
+
+    void recordError(DataRow row, Throwable error) {
+        total.increment();
+        recordFailure(row, error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+
+    /** A line of the data file that could not be parsed; no request was sent for it */
+    void recordMalformed(DataRow row) {
+        total.increment();
+        recordFailure(row, row.error());
+    }
+
+    void wallTimeMs(long ms) {
+        this.wallTimeMs = ms;
+    }
+
+    // ---- Getters ----
+
+    public long getTotal()          { return total.sum(); }
+    public long getFailed()         { return failed.sum(); }
+    public long getPassed()         { return getTotal() - getFailed(); }
+    public long getWallTimeMs()     { return wallTimeMs; }
+
+    /**
+     * Response latency (count, mean, p50/p95/p99, max) of the rows that got a response.
+     */
+    public LatencyStats getLatencyStats() {
+        return latency.stats();
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> out = new TreeMap<>();
+        statusCounts.forEach((k, v) -> out.put(k, v.sum()));
+        return out;
+    }
+
+    public List<String> getFirstFailures() {
+        synchronized (firstFailures) {
+            return Collections.unmodifiableList(new ArrayList<>(firstFailures));
+        }
+    }
+
+    /**
+     * Multi-line human-readable summary: aggregates plus the first failures.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = wallTimeMs / 1000.0;
+        sb.append(String.format("rows=%d passed=%d failed=%d wall=%dms throughput=%.1f rows/s%n",
+                getTotal(), getPassed(), getFailed(), wallTimeMs, seconds > 0 ? getTotal() / seconds : 0.0));
+        LatencyStats latency = getLatencyStats();
+        sb.append(String.format("latency mean=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                latency.meanMs(), latency.p50Ms(), latency.p95Ms(), latency.p99Ms(), latency.maxMs()));
+        sb.append("status codes=").append(getStatusCounts()).append('\n');
+        List<String> failures = getFirstFailures();
+        if (!failures.isEmpty()) {
+            sb.append("first ").append(failures.size()).append(" failure(s):\n");
+            failures.forEach(f -> sb.append("  ").append(f).append('\n'));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "DataDrivenResult{" +
+                "total=" + getTotal() +
+                ", failed=" + getFailed() +
+                ", wallTimeMs=" + wallTimeMs +
+                '}';
+    }
+}
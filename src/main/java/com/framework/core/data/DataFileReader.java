@@ -0,0 +1,178 @@
+package com.framework.core.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader for data-driven input files.
+ * <p>
+ * Supports two formats, chosen by file extension:
+ * <ul>
+ *   <li>{@code .jsonl} / {@code .ndjson} — one JSON document per line,
+ *       used verbatim as the request body</li>
+ *   <li>{@code .csv} — first line is the header; each following line is
+ *       converted to a flat JSON object keyed by column name</li>
+ * </ul>
+ * Rows are read one line at a time through a buffered reader, so memory
+ * use does not depend on the size of the file. Blank lines are skipped; a
+ * JSON line that does not parse is returned as a
+ * {@linkplain DataRow#isMalformed() malformed} row so the run can go on.
+ * <p>
+ * The file is looked up on the classpath first, then on the file system.
+ */
+public class DataFileReader implements Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String source;
+    private final boolean csv;
+    private final BufferedReader reader;
+    private List<String> csvHeader;
+    private long lineNumber;
+
+    public DataFileReader(String source) {
+        this.source = source;
+        String lower = source.toLowerCase();
+        this.csv = lower.endsWith(".csv");
+        if (!csv && !lower.endsWith(".jsonl") && !lower.endsWith(".ndjson")) {
+            throw new IllegalArgumentException(
+                    "Unsupported data file type (expected .csv, .jsonl or .ndjson): " + source);
+        }
+        this.reader = open(source);
+    }
+
+    /**
+     * Read the next row.
+     *
+     * @return the next row, or {@code null} at end of file
+     */
+    public DataRow next() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                if (csv && csvHeader == null) {
+                    csvHeader = parseCsvLine(line);
+                    continue;
+                }
+                return csv ? csvRow(line) : jsonRow(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read data file " + source + " at line " + lineNumber, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ---- Internal ----
+
+    private DataRow jsonRow(String line) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(line);
+        } catch (JsonProcessingException e) {
+            return DataRow.malformed(lineNumber, "malformed JSON: " + e.getOriginalMessage());
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        if (node.isObject()) {
+            node.fields().forEachRemaining(e -> {
+                if (e.getValue().isValueNode()) {
+                    fields.put(e.getKey(), e.getValue().asText());
+                }
+            });
+        }
+        return new DataRow(lineNumber, line, Collections.unmodifiableMap(fields));
+    }
+
+    private DataRow csvRow(String line) throws IOException {
+        List<String> values = parseCsvLine(line);
+        Map<String, String> fields = new LinkedHashMap<>();
+        ObjectNode body = MAPPER.createObjectNode();
+        for (int i = 0; i < csvHeader.size(); i++) {
+            String value = i < values.size() ? values.get(i) : "";
+            fields.put(csvHeader.get(i), value);
+            body.put(csvHeader.get(i), value);
+        }
+        return new DataRow(lineNumber, MAPPER.writeValueAsString(body), Collections.unmodifiableMap(fields));
+    }
+
+    /**
+     * Minimal RFC 4180 line parser: handles quoted fields and escaped
+     * quotes ({@code ""}). Unquoted fields are trimmed; a quoted field keeps
+     * its content exactly, only whitespace around the quotes is dropped.
+     * Quoted fields spanning multiple lines are not supported.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cur.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    cur.append(c);
+                }
+            } else if (c == '"' && !wasQuoted && cur.toString().isBlank()) {
+                quoted = true;
+                wasQuoted = true;
+                cur.setLength(0);
+            } else if (c == ',') {
+                out.add(wasQuoted ? cur.toString() : cur.toString().trim());
+                cur.setLength(0);
+                wasQuoted = false;
+            } else if (!wasQuoted || !Character.isWhitespace(c)) {
+                cur.append(c);
+            }
+        }
+        out.add(wasQuoted ? cur.toString() : cur.toString().trim());
+        return out;
+    }
+
+    private static BufferedReader open(String source) {
+        InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(source);
+        if (is != null) {
+            return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        Path path = Path.of(source);
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Data file not found on classpath or file system: " + source);
+        }
+        try {
+            return new BufferedReader(
+                    new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8), BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open data file: " + source, e);
+        }
+    }
+}
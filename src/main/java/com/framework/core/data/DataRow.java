@@ -0,0 +1,56 @@
+package com.framework.core.data;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single row of a data-driven input file.
+ * <p>
+ * {@code body} is the request payload for the row (the JSONL line itself,
+ * or a JSON object built from the CSV columns). {@code fields} holds the
+ * top-level scalar values of the row so they can be substituted into
+ * endpoints and expected values via {@code {field}} placeholders.
+ * <p>
+ * A line that cannot be parsed becomes a malformed row: it carries the
+ * parse error instead of a body, so one bad line fails only that row.
+ *
+ * @param lineNumber 1-based line number in the source file
+ * @param body       request body for this row; null if malformed
+ * @param fields     top-level scalar values by name
+ * @param error      why the line could not be parsed; null for a valid row
+ */
+public record DataRow(long lineNumber, String body, Map<String, String> fields, String error) {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^{}]+)}");
+
+    public DataRow(long lineNumber, String body, Map<String, String> fields) {
+        this(lineNumber, body, fields, null);
+    }
+
+    static DataRow malformed(long lineNumber, String error) {
+        return new DataRow(lineNumber, null, Map.of(), error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+
+    /**
+     * Replace {@code {field}} placeholders with values from this row.
+     * Unknown placeholders are left untouched.
+     */
+    public String resolve(String template) {
+        if (template == null || template.indexOf('{') < 0) {
+            return template;
+        }
+        Matcher m = PLACEHOLDER.matcher(template);
+        StringBuilder sb = new StringBuilder();
+        while (m.find()) {
+            String value = fields.get(m.group(1));
+            m.appendReplacement(sb, Matcher.quoteReplacement(value != null ? value : m.group()));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,259 @@
+package com.framework.core.dryrun;
+
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Background;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Static dry run: checks that every step of every feature file matches
+ * exactly one step definition, without compiling the glue, starting Spring
+ * or running Cucumber.
+ * <p>
+ * Feature files are parsed in parallel with the Gherkin parser (Scenario
+ * Outlines are expanded, so placeholders are checked per example row) and
+ * matched against the {@link GlueIndex}, which is read from the glue
+ * sources and cached under {@code target/dry-run}. Undefined and ambiguous
+ * steps and Gherkin syntax errors are reported with file and line.
+ * <p>
+ * Command line: {@code DryRunValidator [features-dir] [glue-source-root]}
+ * (defaults {@code src/test/resources/features} and {@code src/test/java};
+ * glue packages from {@code cucumber.glue} in
+ * {@code src/test/resources/junit-platform.properties}); also bound to
+ * {@code mvn compile exec:java@dry-run}. Exits with 1 if anything is wrong,
+ * so it can serve as a pre-commit hook or the first CI stage.
+ * <p>
+ * Custom {@code @ParameterType}s are not known to the index; steps using
+ * them are reported as undefined.
+ */
+public final class DryRunValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(DryRunValidator.class);
+
+    private static final Path CACHE_FILE = Path.of("target/dry-run/glue-index.json");
+    private static final Path JUNIT_PROPERTIES = Path.of("src/test/resources/junit-platform.properties");
+
+    /** A step definition with its parsed expression */
+    private record Definition(GlueIndex.StepDefinition source, Expression expression) {
+    }
+
+    /** Outcome of a validation */
+    public record Result(int features, int steps, int definitions, List<String> problems, List<String> warnings,
+                         long elapsedMs) {
+        public boolean ok() {
+            return problems.isEmpty();
+        }
+    }
+
+    private DryRunValidator() {
+    }
+
+    public static void main(String[] args) {
+        Path features = Path.of(args.length > 0 ? args[0] : "src/test/resources/features");
+        Path glueRoot = Path.of(args.length > 1 ? args[1] : "src/test/java");
+        Result result = validate(features, glueRoot, gluePackages(), CACHE_FILE);
+
+        result.warnings().forEach(w -> System.out.println("WARN  " + w));
+        result.problems().forEach(p -> System.out.println("ERROR " + p));
+        System.out.printf("Dry run: %d feature(s), %d step(s) checked against %d step definition(s) in %d ms — %s%n",
+                result.features(), result.steps(), result.definitions(), result.elapsedMs(),
+                result.ok() ? "OK" : result.problems().size() + " problem(s)");
+        if (!result.ok()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Check all {@code .feature} files under {@code featuresDir} against the
+     * step definitions of {@code gluePackages} under {@code glueRoot}.
+     */
+    public static Result validate(Path featuresDir, Path glueRoot, List<String> gluePackages, Path cacheFile) {
+        long start = System.nanoTime();
+        GlueIndex index = GlueIndex.load(glueRoot, gluePackages, cacheFile);
+
+        List<String> problems = new ArrayList<>();
+        List<String> warnings = new ArrayList<>(index.warnings());
+        List<Definition> definitions = compile(index, problems);
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(featuresDir)) {
+            files = paths.filter(p -> p.toString().endsWith(".feature")).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list features under " + featuresDir, e);
+        }
+
+        // Step texts repeat a lot across scenarios; match each distinct text once
+        Map<String, List<Definition>> matches = new ConcurrentHashMap<>();
+        List<FileResult> results = files.parallelStream()
+                .map(file -> check(file, definitions, matches))
+                .toList();
+
+        int steps = 0;
+        Set<GlueIndex.StepDefinition> used = new LinkedHashSet<>();
+        for (FileResult r : results) {
+            steps += r.steps();
+            problems.addAll(r.problems());
+        }
+        matches.values().forEach(list -> list.forEach(d -> used.add(d.source())));
+        definitions.stream()
+                .filter(d -> !used.contains(d.source()))
+                .forEach(d -> warnings.add("Unused step definition \"" + d.source().expression() + "\" — "
+                        + d.source().location()));
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.debug("Dry run: {} glue file(s), {} re-read", index.fileCount(), index.rereadCount());
+        return new Result(files.size(), steps, definitions.size(), problems, warnings, elapsedMs);
+    }
+
+    // ---- Internal ----
+
+    private record FileResult(int steps, List<String> problems) {
+    }
+
+    private static List<Definition> compile(GlueIndex index, List<String> problems) {
+        ExpressionFactory factory = new ExpressionFactory(new ParameterTypeRegistry(Locale.ENGLISH));
+        Map<String, GlueIndex.StepDefinition> seen = new HashMap<>();
+        List<Definition> definitions = new ArrayList<>();
+        for (GlueIndex.StepDefinition step : index.steps()) {
+            GlueIndex.StepDefinition duplicate = seen.putIfAbsent(step.expression(), step);
+            if (duplicate != null) {
+                problems.add("Duplicate step definition \"" + step.expression() + "\" — "
+                        + duplicate.location() + " and " + step.location());
+                continue;
+            }
+            try {
+                definitions.add(new Definition(step, factory.createExpression(step.expression())));
+            } catch (RuntimeException e) {
+                problems.add("Invalid step expression \"" + step.expression() + "\" — " + step.location()
+                        + ": " + e.getMessage());
+            }
+        }
+        return definitions;
+    }
+
+    private static FileResult check(Path file, List<Definition> definitions, Map<String, List<Definition>> matches) {
+        GherkinParser parser = GherkinParser.builder()
+                .includeSource(false)
+                .includeGherkinDocument(true)
+                .includePickles(true)
+                .build();
+        List<String> problems = new ArrayList<>();
+        Map<String, Long> stepLines = new HashMap<>();
+        List<Pickle> pickles = new ArrayList<>();
+        try (Stream<Envelope> envelopes = parser.parse(file)) {
+            envelopes.forEach(envelope -> {
+                envelope.getParseError().ifPresent(error -> problems.add(file + ":"
+                        + error.getSource().getLocation().map(l -> l.getLine().toString()).orElse("?")
+                        + ": " + error.getMessage()));
+                envelope.getGherkinDocument().ifPresent(doc -> indexStepLines(doc, stepLines));
+                envelope.getPickle().ifPresent(pickles::add);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse " + file, e);
+        }
+
+        int steps = 0;
+        Set<String> reported = new LinkedHashSet<>();
+        for (Pickle pickle : pickles) {
+            for (PickleStep step : pickle.getSteps()) {
+                steps++;
+                List<Definition> matching = matches.computeIfAbsent(step.getText(), text -> match(text, definitions));
+                if (matching.size() == 1) continue;
+                Long line = step.getAstNodeIds().isEmpty() ? null : stepLines.get(step.getAstNodeIds().get(0));
+                String where = file + ":" + (line != null ? line : "?");
+                String problem = matching.isEmpty()
+                        ? where + ": Undefined step \"" + step.getText() + "\" (scenario \"" + pickle.getName() + "\")"
+                        : where + ": Ambiguous step \"" + step.getText() + "\" matches "
+                          + matching.stream().map(d -> d.source().location()).toList();
+                // An outline reports the same step once, not once per example row
+                if (reported.add(where + step.getText())) {
+                    problems.add(problem);
+                }
+            }
+        }
+        return new FileResult(steps, problems);
+    }
+
+    private static List<Definition> match(String text, List<Definition> definitions) {
+        List<Definition> matching = new ArrayList<>(1);
+        for (Definition d : definitions) {
+            if (d.expression().match(text) != null) {
+                matching.add(d);
+            }
+        }
+        return matching;
+    }
+
+    /** Step AST node id → line, for reporting pickle steps */
+    private static void indexStepLines(GherkinDocument doc, Map<String, Long> lines) {
+        doc.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getBackground().ifPresent(b -> addLines(b, lines));
+                child.getScenario().ifPresent(s -> addLines(s, lines));
+                child.getRule().ifPresent(rule -> {
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getBackground().ifPresent(b -> addLines(b, lines));
+                        ruleChild.getScenario().ifPresent(s -> addLines(s, lines));
+                    }
+                });
+            }
+        });
+    }
+
+    private static void addLines(Background background, Map<String, Long> lines) {
+        addLines(background.getSteps(), lines);
+    }
+
+    private static void addLines(Scenario scenario, Map<String, Long> lines) {
+        addLines(scenario.getSteps(), lines);
+    }
+
+    private static void addLines(List<Step> steps, Map<String, Long> lines) {
+        for (Step step : steps) {
+            lines.put(step.getId(), step.getLocation().getLine());
+        }
+    }
+
+    /** {@code cucumber.glue} from junit-platform.properties, or the framework default */
+    private static List<String> gluePackages() {
+        String glue = "com.framework.stepdefs";
+        if (Files.isRegularFile(JUNIT_PROPERTIES)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(JUNIT_PROPERTIES)) {
+                properties.load(in);
+                glue = properties.getProperty("cucumber.glue", glue);
+            } catch (IOException e) {
+                log.warn("Could not read {}: {}", JUNIT_PROPERTIES, e.toString());
+            }
+        }
+        return Arrays.stream(glue.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+}
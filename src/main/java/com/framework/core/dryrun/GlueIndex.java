@@ -0,0 +1,203 @@
+package com.framework.core.dryrun;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Index of the step definitions in the glue sources, read from the Java
+ * source files rather than compiled classes, so it is available before
+ * compilation and without Spring or the Cucumber runtime.
+ * <p>
+ * The index is cached on disk; a source file is only re-read when its
+ * size or modification time changed, so a warm build is a few file stats.
+ * Only string-literal annotation values can be indexed; anything else
+ * (constants, concatenation) is reported as a warning.
+ */
+public final class GlueIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(GlueIndex.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Bumped when the cached format changes */
+    private static final int FORMAT = 1;
+
+    private static final Pattern STEP_ANNOTATION =
+            Pattern.compile("@(?:io\\.cucumber\\.java\\.en\\.)?(Given|When|Then|And|But)\\s*\\((.*)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("\\s*(?:value\\s*=\\s*)?\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+    private static final Pattern METHOD = Pattern.compile("\\b(\\w+)\\s*\\(");
+
+    /**
+     * One step definition.
+     *
+     * @param expression the Cucumber expression or regular expression
+     * @param location   {@code Class.method (File.java:line)}
+     */
+    public record StepDefinition(String expression, String location) {
+    }
+
+    /** Cached entry per source file */
+    public record FileEntry(long size, long modified, List<StepDefinition> steps, List<String> warnings) {
+    }
+
+    private final Map<String, FileEntry> files;
+    private final int reread;
+
+    private GlueIndex(Map<String, FileEntry> files, int reread) {
+        this.files = files;
+        this.reread = reread;
+    }
+
+    /**
+     * Build the index for the glue packages under {@code sourceRoot},
+     * reusing {@code cacheFile} where the sources have not changed, and
+     * write the updated cache back.
+     */
+    public static GlueIndex load(Path sourceRoot, List<String> gluePackages, Path cacheFile) {
+        Map<String, FileEntry> cached = readCache(cacheFile);
+        Map<String, FileEntry> files = new TreeMap<>();
+        int reread = 0;
+        for (String pkg : gluePackages) {
+            Path dir = sourceRoot.resolve(pkg.trim().replace('.', '/'));
+            if (!Files.isDirectory(dir)) continue;
+            try (Stream<Path> paths = Files.walk(dir)) {
+                for (Path file : paths.filter(p -> p.toString().endsWith(".java")).toList()) {
+                    String key = sourceRoot.relativize(file).toString().replace('\\', '/');
+                    long size = Files.size(file);
+                    long modified = Files.getLastModifiedTime(file).toMillis();
+                    FileEntry entry = cached.get(key);
+                    if (entry == null || entry.size() != size || entry.modified() != modified) {
+                        entry = scan(file, size, modified);
+                        reread++;
+                    }
+                    files.put(key, entry);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to index glue under " + dir, e);
+            }
+        }
+        if (reread > 0 || !files.keySet().equals(cached.keySet())) {
+            writeCache(cacheFile, files);
+        }
+        return new GlueIndex(files, reread);
+    }
+
+    public List<StepDefinition> steps() {
+        List<StepDefinition> all = new ArrayList<>();
+        files.values().forEach(f -> all.addAll(f.steps()));
+        return all;
+    }
+
+    public List<String> warnings() {
+        List<String> all = new ArrayList<>();
+        files.values().forEach(f -> all.addAll(f.warnings()));
+        return all;
+    }
+
+    public int fileCount() {
+        return files.size();
+    }
+
+    /** Source files that were (re-)read instead of taken from the cache */
+    public int rereadCount() {
+        return reread;
+    }
+
+    // ---- Internal ----
+
+    private static FileEntry scan(Path file, long size, long modified) throws IOException {
+        String className = file.getFileName().toString().replace(".java", "");
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        List<StepDefinition> steps = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            Matcher annotation = STEP_ANNOTATION.matcher(lines.get(i));
+            if (!annotation.find()) continue;
+            Matcher literal = STRING_LITERAL.matcher(annotation.group(2));
+            if (!literal.lookingAt()) {
+                warnings.add(className + ".java:" + (i + 1) + ": @" + annotation.group(1)
+                        + " value is not a single string literal; not indexed");
+                continue;
+            }
+            String method = "?";
+            for (int j = i + 1; j < Math.min(lines.size(), i + 6); j++) {
+                String line = lines.get(j).trim();
+                if (line.startsWith("@")) continue;
+                Matcher m = METHOD.matcher(line);
+                if (m.find()) method = m.group(1);
+                break;
+            }
+            steps.add(new StepDefinition(unescape(literal.group(1)),
+                    className + "." + method + " (" + className + ".java:" + (i + 1) + ")"));
+        }
+        return new FileEntry(size, modified, steps, warnings);
+    }
+
+    /** Java string literal escapes */
+    private static String unescape(String s) {
+        if (s.indexOf('\\') < 0) return s;
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != '\\' || i + 1 == s.length()) {
+                sb.append(c);
+                continue;
+            }
+            char next = s.charAt(++i);
+            switch (next) {
+                case 'n' -> sb.append('\n');
+                case 't' -> sb.append('\t');
+                case 'r' -> sb.append('\r');
+                case 'u' -> {
+                    sb.append((char) Integer.parseInt(s.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                default -> sb.append(next);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Map<String, FileEntry> readCache(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Collections.emptyMap();
+        }
+        try {
+            Map<String, Object> root = MAPPER.readValue(cacheFile.toFile(), new TypeReference<>() { });
+            if (!Integer.valueOf(FORMAT).equals(root.get("format"))) {
+                return Collections.emptyMap();
+            }
+            return MAPPER.convertValue(root.get("files"), new TypeReference<Map<String, FileEntry>>() { });
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Ignoring unreadable glue index cache {}: {}", cacheFile, e.toString());
+            return Collections.emptyMap();
+        }
+    }
+
+    private static void writeCache(Path cacheFile, Map<String, FileEntry> files) {
+        try {
+            Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+            MAPPER.writeValue(tmp.toFile(), Map.of("format", FORMAT, "files", files));
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not write glue index cache {}: {}", cacheFile, e.toString());
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.framework.core.incremental;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.framework.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Incremental runs: skip scenarios that passed last time when nothing they
+ * depend on has changed.
+ * <p>
+ * The inputs of a feature are hashed together: the feature file, files it
+ * references by quoted path (request bodies, data files, schemas — anything
+ * found on the classpath or relative to the working directory), the base
+ * and environment YAML config, and the compiled glue and framework classes
+ * plus dependency jars on the class path. The result of every scenario is
+ * kept per feature in {@code incremental.index-file} together with that
+ * hash. A scenario is skipped if its feature's hash is unchanged and the
+ * scenario passed; new, changed and failed scenarios run.
+ * <p>
+ * With {@code incremental.failed-only} only the scenarios that failed last
+ * time run, which puts them first when used as a separate pass before the
+ * incremental run. The failures are also written in Cucumber's rerun format
+ * to {@code incremental.rerun-file}.
+ * <p>
+ * A single JVM-wide instance is used because it is consulted by the hooks
+ * and fed by a Cucumber plugin outside Spring.
+ */
+public final class IncrementalRun {
+
+    private static final Logger log = LoggerFactory.getLogger(IncrementalRun.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String PASSED = "passed";
+    private static final String FAILED = "failed";
+
+    /** Quoted strings that look like file names, e.g. "data/orders.jsonl" */
+    private static final Pattern QUOTED_FILE = Pattern.compile("\"([^\"\\s:]+\\.[A-Za-z0-9]{1,8})\"");
+
+    private static final class Holder {
+        static final IncrementalRun GLOBAL = new IncrementalRun(new ConfigManager());
+    }
+
+    /** Stored state of one feature */
+    public record FeatureState(String hash, Map<Integer, String> scenarios) {
+    }
+
+    private final boolean enabled;
+    private final boolean failedOnly;
+    private final Path indexFile;
+    private final Path rerunFile;
+    private final String environment;
+
+    private final Map<String, FeatureState> previous;
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, String>> results = new ConcurrentHashMap<>();
+    private final Set<String> skipped = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+    private volatile String classpathHash;
+
+    public static IncrementalRun global() {
+        return Holder.GLOBAL;
+    }
+
+    IncrementalRun(ConfigManager config) {
+        this.enabled = config.getBoolean("incremental.enabled", false);
+        this.failedOnly = config.getBoolean("incremental.failed-only", false);
+        this.indexFile = Path.of(config.getString("incremental.index-file", "target/incremental/index.json"));
+        this.rerunFile = Path.of(config.getString("incremental.rerun-file", "target/incremental/rerun.txt"));
+        this.environment = System.getProperty("env", System.getenv().getOrDefault("ENV", "dev"));
+        this.previous = enabled ? readIndex(indexFile) : Map.of();
+        if (enabled) {
+            log.info("Incremental run{} — {} feature(s) in {}", failedOnly ? " (previously failed scenarios only)" : "",
+                    previous.size(), indexFile);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Decide whether a scenario runs.
+     *
+     * @param line the scenario's (or example row's) line
+     * @return why the scenario is skipped, or null if it runs
+     */
+    public String skipReason(URI feature, int line) {
+        if (!enabled) {
+            return null;
+        }
+        String uri = feature.toString();
+        FeatureState last = previous.get(uri);
+        String lastResult = last != null ? last.scenarios().get(line) : null;
+        String reason = null;
+        if (failedOnly) {
+            if (!FAILED.equals(lastResult)) reason = "did not fail last time";
+        } else if (PASSED.equals(lastResult) && last.hash().equals(hash(feature))) {
+            reason = "passed last time and its inputs are unchanged";
+        }
+        if (reason != null) {
+            skipped.add(uri + ":" + line);
+            skippedCount.incrementAndGet();
+        }
+        return reason;
+    }
+
+    /**
+     * Record a scenario's result; scenarios skipped by this class keep their previous result.
+     */
+    public void record(URI feature, int line, boolean passed) {
+        if (!enabled || skipped.contains(feature + ":" + line)) {
+            return;
+        }
+        hash(feature);
+        results.computeIfAbsent(feature.toString(), k -> new ConcurrentHashMap<>()).put(line, passed ? PASSED : FAILED);
+    }
+
+    /**
+     * Merge this run's results into the index and write it with the rerun file.
+     */
+    public void finish() {
+        if (!enabled) {
+            return;
+        }
+        Map<String, FeatureState> merged = new TreeMap<>(previous);
+        int ran = 0;
+        int failed = 0;
+        for (Map.Entry<String, Map<Integer, String>> e : results.entrySet()) {
+            String hash = hashes.get(e.getKey());
+            FeatureState state = merged.get(e.getKey());
+            // Results recorded against other inputs no longer say anything
+            Map<Integer, String> scenarios = state != null && state.hash().equals(hash)
+                    ? new TreeMap<>(state.scenarios())
+                    : new TreeMap<>();
+            scenarios.putAll(e.getValue());
+            merged.put(e.getKey(), new FeatureState(hash, scenarios));
+            ran += e.getValue().size();
+            failed += (int) e.getValue().values().stream().filter(FAILED::equals).count();
+        }
+
+        StringBuilder rerun = new StringBuilder();
+        merged.forEach((uri, state) -> {
+            List<Integer> lines = state.scenarios().entrySet().stream()
+                    .filter(s -> FAILED.equals(s.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!lines.isEmpty()) {
+                rerun.append(uri);
+                lines.forEach(line -> rerun.append(':').append(line));
+                rerun.append('\n');
+            }
+        });
+
+        try {
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            MAPPER.writeValue(tmp.toFile(), Map.of("format", 1, "features", merged));
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.createDirectories(rerunFile.toAbsolutePath().getParent());
+            Files.writeString(rerunFile, rerun, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write incremental index " + indexFile, e);
+        }
+        log.info("Incremental run: {} scenario(s) ran ({} failed), {} skipped; index {}",
+                ran, failed, skippedCount.get(), indexFile);
+    }
+
+    // ---- Input hashing ----
+
+    /** Hash of everything the feature's outcome depends on, computed once per run */
+    private String hash(URI feature) {
+        return hashes.computeIfAbsent(feature.toString(), k -> {
+            MessageDigest digest = sha256();
+            byte[] content = read(feature);
+            digest.update(content);
+            Matcher m = QUOTED_FILE.matcher(new String(content, StandardCharsets.UTF_8));
+            Set<String> referenced = new TreeSet<>();
+            while (m.find()) referenced.add(m.group(1));
+            for (String name : referenced) {
+                byte[] file = readReferenced(name);
+                if (file != null) {
+                    digest.update(name.getBytes(StandardCharsets.UTF_8));
+                    digest.update(file);
+                }
+            }
+            for (String config : List.of("config/application.yml", "config/application-" + environment + ".yml")) {
+                byte[] yaml = readResource(config);
+                if (yaml != null) digest.update(yaml);
+            }
+            digest.update(classpathHash().getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest());
+        });
+    }
+
+    /**
+     * Compiled classes in class path directories (by content) and jars (by
+     * name, size and date): glue, framework code and dependencies.
+     */
+    private String classpathHash() {
+        String hash = classpathHash;
+        if (hash != null) {
+            return hash;
+        }
+        synchronized (this) {
+            if (classpathHash == null) {
+                MessageDigest digest = sha256();
+                for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                    Path path = Path.of(entry);
+                    try {
+                        if (Files.isDirectory(path)) {
+                            try (Stream<Path> files = Files.walk(path)) {
+                                for (Path file : files.filter(f -> f.toString().endsWith(".class")).sorted().toList()) {
+                                    digest.update(path.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                                    digest.update(Files.readAllBytes(file));
+                                }
+                            }
+                        } else if (Files.isRegularFile(path)) {
+                            digest.update((path.getFileName() + ":" + Files.size(path) + ":"
+                                    + Files.getLastModifiedTime(path).toMillis()).getBytes(StandardCharsets.UTF_8));
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to hash class path entry " + path, e);
+                    }
+                }
+                classpathHash = HexFormat.of().formatHex(digest.digest());
+            }
+            return classpathHash;
+        }
+    }
+
+    private static byte[] read(URI feature) {
+        if ("classpath".equals(feature.getScheme())) {
+            byte[] content = readResource(feature.getSchemeSpecificPart().replaceFirst("^/", ""));
+            if (content == null) throw new IllegalStateException("Feature not found on class path: " + feature);
+            return content;
+        }
+        try {
+            return Files.readAllBytes(Path.of(feature));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + feature, e);
+        }
+    }
+
+    private static byte[] readReferenced(String name) {
+        byte[] resource = readResource(name);
+        if (resource != null) {
+            return resource;
+        }
+        Path file = Path.of(name);
+        try {
+            return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] readResource(String name) {
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, FeatureState> readIndex(Path indexFile) {
+        if (!Files.isRegularFile(indexFile)) {
+            return Map.of();
+        }
+        try {
+            Map<String, Object> root = MAPPER.readValue(indexFile.toFile(), new TypeReference<>() { });
+            Map<String, FeatureState> features =
+                    MAPPER.convertValue(root.get("features"), new TypeReference<Map<String, FeatureState>>() { });
+            return features != null ? features : Map.of();
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable incremental index {}: {}", indexFile, e.toString());
+            return Map.of();
+        }
+    }
+}
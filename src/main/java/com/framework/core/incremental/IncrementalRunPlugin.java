@@ -0,0 +1,31 @@
+package com.framework.core.incremental;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+
+/**
+ * Cucumber plugin that feeds scenario results to {@link IncrementalRun}
+ * and writes its index when the run finishes. Does nothing unless
+ * {@code incremental.enabled} is true.
+ * <p>
+ * Enable with {@code cucumber.plugin=com.framework.core.incremental.IncrementalRunPlugin}.
+ */
+public class IncrementalRunPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!IncrementalRun.global().isEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> IncrementalRun.global().finish());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        IncrementalRun.global().record(event.getTestCase().getUri(), event.getTestCase().getLocation().getLine(),
+                event.getResult().getStatus() == Status.PASSED);
+    }
+}
@@ -0,0 +1,145 @@
+package com.framework.core.jfr;
+
+import com.framework.core.config.ConfigManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that emits a {@link StepEvent} for every step and hook
+ * and, with {@code jfr.record} on, records the whole run with JDK Flight
+ * Recorder.
+ * <p>
+ * The recording uses the JDK's {@code jfr.settings} configuration
+ * ({@code default} — about 1% overhead — or {@code profile}) plus the
+ * framework's scenario, step and protocol call events, and is written to
+ * {@code jfr.directory} when the run finishes (or the JVM exits). Opening
+ * it in JDK Mission Control puts GC pauses, lock contention and request
+ * latency on one timeline.
+ * <p>
+ * Events are also available to recordings started some other way, e.g.
+ * with {@code -XX:StartFlightRecording}.
+ * <p>
+ * Enable with {@code cucumber.plugin=com.framework.core.jfr.FlightRecorderPlugin}.
+ */
+public class FlightRecorderPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderPlugin.class);
+
+    private final boolean record;
+    private final String settings;
+    private final Path directory;
+
+    /** Steps in progress, by test case and step id */
+    private final Map<String, StepEvent> running = new ConcurrentHashMap<>();
+
+    private Recording recording;
+
+    public FlightRecorderPlugin() {
+        ConfigManager config = new ConfigManager();
+        this.record = config.getBoolean("jfr.record", false);
+        this.settings = config.getString("jfr.settings", "default");
+        this.directory = Path.of(config.getString("jfr.directory", "target/jfr"));
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        if (record) {
+            publisher.registerHandlerFor(TestRunStarted.class, event -> startRecording());
+            publisher.registerHandlerFor(TestRunFinished.class, event -> stopRecording());
+        }
+    }
+
+    private void onStepStarted(TestStepStarted event) {
+        StepEvent step = new StepEvent();
+        if (!step.isEnabled()) {
+            return;
+        }
+        step.begin();
+        running.put(key(event.getTestCase(), event.getTestStep()), step);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        StepEvent step = running.remove(key(event.getTestCase(), event.getTestStep()));
+        if (step == null) {
+            return;
+        }
+        step.end();
+        if (step.shouldCommit()) {
+            TestStep testStep = event.getTestStep();
+            if (testStep instanceof PickleStepTestStep pickleStep) {
+                step.type = "step";
+                step.text = pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+                step.location = event.getTestCase().getUri() + ":" + pickleStep.getStep().getLine();
+            } else {
+                step.type = testStep instanceof HookTestStep hook ? hook.getHookType().name() : "hook";
+                step.text = testStep.getCodeLocation();
+                step.location = event.getTestCase().getUri() + ":" + event.getTestCase().getLocation().getLine();
+            }
+            step.scenario = event.getTestCase().getName();
+            step.status = event.getResult().getStatus().name();
+            step.commit();
+        }
+    }
+
+    private static String key(TestCase testCase, TestStep testStep) {
+        return testCase.getId() + "/" + testStep.getId();
+    }
+
+    // ---- Run recording ----
+
+    private synchronized void startRecording() {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(
+                    "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr");
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("cucumber-run");
+            recording.enable(ScenarioEvent.class);
+            recording.enable(StepEvent.class);
+            recording.enable(ProtocolCallEvent.class);
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+            log.info("JFR recording of the run started ({} settings) — {}", settings, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start JFR recording in " + directory, e);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid JFR settings '" + settings + "'", e);
+        }
+    }
+
+    private synchronized void stopRecording() {
+        if (recording == null) {
+            return;
+        }
+        Path file = recording.getDestination();
+        recording.stop();
+        recording.close();
+        recording = null;
+        log.info("JFR recording written to {}", file);
+    }
+}
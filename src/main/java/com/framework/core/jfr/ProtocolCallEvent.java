@@ -0,0 +1,86 @@
+package com.framework.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.function.LongSupplier;
+
+/**
+ * JFR event spanning one {@code ProtocolClient.execute} call, excluding the
+ * wait for a rate limit permit (reported in {@code rateLimitWait}).
+ */
+@Name("com.framework.ProtocolCall")
+@Label("Protocol Call")
+@Category({"Test Framework", "Protocol"})
+@Description("One request sent through a ProtocolClient")
+@StackTrace(false)
+public final class ProtocolCallEvent extends Event {
+
+    @Label("Protocol")
+    String protocol;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status")
+    @Description("Response status code; -1 if the call failed without a response")
+    int status;
+
+    @Label("Request Bytes")
+    @DataAmount(DataAmount.BYTES)
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @Description("Response body bytes on the wire")
+    @DataAmount(DataAmount.BYTES)
+    long responseBytes;
+
+    @Label("Rate Limit Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long rateLimitWait;
+
+    @Label("Trace Id")
+    String traceId;
+
+    /**
+     * Start timing a call.
+     */
+    public static ProtocolCallEvent start() {
+        ProtocolCallEvent event = new ProtocolCallEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing and commit, if a recording is interested in the event.
+     * The body sizes are only computed when the event is committed.
+     *
+     * @param status        response status code, or -1
+     * @param requestBytes  request body bytes
+     * @param responseBytes response body bytes on the wire, or -1 if unknown
+     */
+    public void finish(String protocol, String method, String endpoint, int status, LongSupplier requestBytes,
+                       LongSupplier responseBytes, long rateLimitWaitNanos, String traceId) {
+        end();
+        if (shouldCommit()) {
+            this.protocol = protocol;
+            this.method = method;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.requestBytes = requestBytes.getAsLong();
+            this.responseBytes = responseBytes.getAsLong();
+            this.rateLimitWait = rateLimitWaitNanos;
+            this.traceId = traceId;
+            commit();
+        }
+    }
+}
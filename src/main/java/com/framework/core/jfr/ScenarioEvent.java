@@ -0,0 +1,64 @@
+package com.framework.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one scenario, from the first before-hook to the last
+ * after-hook. Emitted by the scenario hooks.
+ */
+@Name("com.framework.Scenario")
+@Label("Scenario")
+@Category({"Test Framework", "Cucumber"})
+@Description("One Cucumber scenario, including its hooks")
+@StackTrace(false)
+public final class ScenarioEvent extends Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Feature")
+    String uri;
+
+    @Label("Line")
+    int line;
+
+    @Label("Tags")
+    String tags;
+
+    @Label("Status")
+    String status;
+
+    @Label("Trace Id")
+    @Description("W3C trace id shared by the scenario's requests")
+    String traceId;
+
+    /**
+     * Start timing a scenario.
+     */
+    public static ScenarioEvent start() {
+        ScenarioEvent event = new ScenarioEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing and commit, if a recording is interested in the event.
+     */
+    public void finish(String name, String uri, int line, String tags, String status, String traceId) {
+        end();
+        if (shouldCommit()) {
+            this.name = name;
+            this.uri = uri;
+            this.line = line;
+            this.tags = tags;
+            this.status = status;
+            this.traceId = traceId;
+            commit();
+        }
+    }
+}
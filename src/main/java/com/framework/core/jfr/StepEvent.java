@@ -0,0 +1,37 @@
+package com.framework.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one step or hook of a scenario. Emitted by
+ * {@link FlightRecorderPlugin}.
+ */
+@Name("com.framework.Step")
+@Label("Step")
+@Category({"Test Framework", "Cucumber"})
+@Description("One Gherkin step or hook")
+@StackTrace(false)
+final class StepEvent extends Event {
+
+    @Label("Type")
+    @Description("step, or the hook type (BEFORE, AFTER, BEFORE_STEP, AFTER_STEP)")
+    String type;
+
+    @Label("Text")
+    @Description("Step text, or the hook's code location")
+    String text;
+
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Location")
+    String location;
+
+    @Label("Status")
+    String status;
+}
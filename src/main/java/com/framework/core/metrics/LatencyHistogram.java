@@ -0,0 +1,82 @@
+package com.framework.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, fixed-size latency histogram with ~2% relative precision.
+ * <p>
+ * Values are recorded in microseconds into logarithmic buckets (each bucket
+ * is 2% wider than the previous one), from 1&nbsp;µs up to about one hour.
+ * That is roughly 1,100 counters — a few KB per histogram — no matter how
+ * many samples are recorded, so one histogram per step or endpoint is cheap.
+ */
+public class LatencyHistogram {
+
+    private static final double GROWTH = 1.02;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final long MAX_MICROS = 3_600_000_000L;
+    private static final int BUCKETS = bucketOf(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one sample.
+     */
+    public void recordMicros(long micros) {
+        long v = Math.max(0, Math.min(micros, MAX_MICROS));
+        counts.incrementAndGet(bucketOf(v));
+        total.increment();
+        sumMicros.add(v);
+        maxMicros.accumulateAndGet(v, Math::max);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    /**
+     * Point-in-time summary in milliseconds.
+     */
+    public LatencyStats stats() {
+        long n = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            n += snapshot[i];
+        }
+        if (n == 0) {
+            return new LatencyStats(0, 0, 0, 0, 0, 0);
+        }
+        return new LatencyStats(n,
+                sumMicros.sum() / 1000.0 / n,
+                percentile(snapshot, n, 50),
+                percentile(snapshot, n, 95),
+                percentile(snapshot, n, 99),
+                maxMicros.get() / 1000.0);
+    }
+
+    private static double percentile(long[] snapshot, long n, double p) {
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBoundMicros(i) / 1000.0;
+            }
+        }
+        return MAX_MICROS / 1000.0;
+    }
+
+    private static int bucketOf(long micros) {
+        return micros < 1 ? 0 : (int) (Math.log(micros) / LOG_GROWTH) + 1;
+    }
+
+    private static double upperBoundMicros(int bucket) {
+        return bucket == 0 ? 0 : Math.pow(GROWTH, bucket);
+    }
+}
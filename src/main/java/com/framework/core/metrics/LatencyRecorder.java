@@ -0,0 +1,110 @@
+package com.framework.core.metrics;
+
+import com.framework.core.tracing.ServerTiming;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Run-wide latency histograms per protocol endpoint.
+ * <p>
+ * Every {@code ProtocolClient.execute} call made through the
+ * {@code ProtocolClientFactory} is recorded here under a normalised key
+ * such as {@code "REST GET /users/{id}"}; numeric and UUID path segments
+ * are collapsed so that calls to the same route share one distribution.
+ * Durations reported by the server in {@code Server-Timing} headers are
+ * kept per endpoint and metric alongside, e.g.
+ * {@code "REST GET /users/{id} [db]"}, so client time can be compared with
+ * the time the server spent in its database or cache. Time spent waiting
+ * for a client-side rate limit permit is kept per protocol and host, e.g.
+ * {@code "REST api.example.com"}, and is not part of the endpoint latency.
+ * <p>
+ * A single JVM-wide instance is used because the consumers — Cucumber
+ * plugins and reflectively created clients — live outside the Spring context.
+ */
+public final class LatencyRecorder {
+
+    private static final LatencyRecorder GLOBAL = new LatencyRecorder();
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "(?<=/)(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private final Map<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> serverTimings = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> rateLimitWaits = new ConcurrentHashMap<>();
+
+    public static LatencyRecorder global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Record one protocol call.
+     */
+    public void record(String protocol, String method, String endpoint, long durationMicros) {
+        endpoints.computeIfAbsent(endpointKey(protocol, method, endpoint), k -> new LatencyHistogram())
+                .recordMicros(durationMicros);
+    }
+
+    /**
+     * Record the server-reported timings of one protocol call. Metrics without a duration are ignored.
+     */
+    public void recordServerTimings(String protocol, String method, String endpoint, List<ServerTiming> timings) {
+        if (timings.isEmpty()) return;
+        String key = endpointKey(protocol, method, endpoint);
+        for (ServerTiming timing : timings) {
+            if (timing.hasDuration()) {
+                serverTimings.computeIfAbsent(key + " [" + timing.name() + "]", k -> new LatencyHistogram())
+                        .recordMicros(Math.round(timing.durationMs() * 1000));
+            }
+        }
+    }
+
+    /**
+     * Record the time one request waited for a rate limit permit.
+     */
+    public void recordRateLimitWait(String protocol, String host, long waitMicros) {
+        rateLimitWaits.computeIfAbsent(protocol + " " + host, k -> new LatencyHistogram()).recordMicros(waitMicros);
+    }
+
+    /**
+     * Current statistics per endpoint key, sorted by key.
+     */
+    public Map<String, LatencyStats> endpointStats() {
+        Map<String, LatencyStats> out = new TreeMap<>();
+        endpoints.forEach((k, h) -> out.put(k, h.stats()));
+        return out;
+    }
+
+    /**
+     * Current server timing statistics per endpoint key and metric, sorted by key.
+     */
+    public Map<String, LatencyStats> serverTimingStats() {
+        Map<String, LatencyStats> out = new TreeMap<>();
+        serverTimings.forEach((k, h) -> out.put(k, h.stats()));
+        return out;
+    }
+
+    /**
+     * Current rate limit wait statistics per protocol and host, sorted by key.
+     */
+    public Map<String, LatencyStats> rateLimitWaitStats() {
+        Map<String, LatencyStats> out = new TreeMap<>();
+        rateLimitWaits.forEach((k, h) -> out.put(k, h.stats()));
+        return out;
+    }
+
+    /**
+     * Normalised key for an endpoint, e.g. {@code REST GET /orders/{id}}.
+     * Query strings are dropped.
+     */
+    public static String endpointKey(String protocol, String method, String endpoint) {
+        String path = endpoint == null ? "" : endpoint;
+        int q = path.indexOf('?');
+        if (q >= 0) path = path.substring(0, q);
+        path = ID_SEGMENT.matcher(path).replaceAll("{id}");
+        return protocol + " " + (method == null ? "" : method.toUpperCase()) + " " + path;
+    }
+}
@@ -0,0 +1,14 @@
+package com.framework.core.metrics;
+
+/**
+ * Summary of a latency distribution. All times are in milliseconds.
+ *
+ * @param count  number of samples
+ * @param meanMs arithmetic mean
+ * @param p50Ms  median
+ * @param p95Ms  95th percentile
+ * @param p99Ms  99th percentile
+ * @param maxMs  slowest sample
+ */
+public record LatencyStats(long count, double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+}
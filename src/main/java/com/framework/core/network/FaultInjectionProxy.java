@@ -0,0 +1,571 @@
+package com.framework.core.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process HTTP forward proxy that degrades the traffic passing through it.
+ * <p>
+ * Each {@link Route} listens on its own loopback port with its own
+ * {@link NetworkConditions} — added latency, bandwidth limit, connection
+ * reset or truncated response — so parallel scenarios do not interfere.
+ * All routes and connections are served by a single selector thread: data
+ * is read as it arrives, queued with a due time (latency) and written out
+ * as the per-connection token bucket allows (bandwidth). A side that has
+ * too much data queued stops being read until the other side catches up.
+ * <p>
+ * Supports {@code CONNECT} tunnels (HTTPS, TLS stays end-to-end) and
+ * absolute-form plain HTTP requests, i.e. whatever an HTTP client sends to
+ * a configured proxy. Faults count response bytes only: tunnelled TLS
+ * records for HTTPS, raw response bytes for HTTP.
+ */
+public final class FaultInjectionProxy implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(FaultInjectionProxy.class);
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_HEAD_BYTES = 16 * 1024;
+    /** Stop reading from one side while this much is queued for the other */
+    private static final long MAX_QUEUED_BYTES = 256 * 1024;
+    private static final byte[] CONNECT_OK =
+            "HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static FaultInjectionProxy global;
+
+    private final Selector selector;
+    private final Thread loop;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    /** Selector thread only */
+    private final Set<Pipe> pipes = new HashSet<>();
+    private long nextWakeNanos = Long.MAX_VALUE;
+    private volatile boolean running = true;
+
+    public FaultInjectionProxy() {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open selector for fault injection proxy", e);
+        }
+        this.loop = Thread.ofPlatform().daemon().name("fault-proxy").start(this::run);
+    }
+
+    /**
+     * JVM-wide proxy shared by all scenarios, started on first use.
+     */
+    public static synchronized FaultInjectionProxy global() {
+        if (global == null || !global.running) {
+            global = new FaultInjectionProxy();
+        }
+        return global;
+    }
+
+    /**
+     * Open a new route on an ephemeral loopback port.
+     */
+    public Route openRoute(NetworkConditions conditions) {
+        try {
+            ServerSocketChannel server = ServerSocketChannel.open();
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            server.configureBlocking(false);
+            Route route = new Route(server, conditions);
+            post(() -> {
+                try {
+                    server.register(selector, SelectionKey.OP_ACCEPT, route);
+                } catch (IOException e) {
+                    log.error("Failed to register proxy route {}: {}", route.port(), e.getMessage());
+                }
+            });
+            log.info("Fault injection route opened on port {} — {}", route.port(), conditions);
+            return route;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open fault injection route", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One listening port with its own network conditions. Conditions can be
+     * changed at any time and apply to open connections too.
+     */
+    public final class Route implements Closeable {
+        private final ServerSocketChannel server;
+        private final int port;
+        private final AtomicLong connections = new AtomicLong();
+        /** Selector thread only */
+        private final Set<Pipe> open = new HashSet<>();
+        private volatile NetworkConditions conditions;
+
+        private Route(ServerSocketChannel server, NetworkConditions conditions) throws IOException {
+            this.server = server;
+            this.port = ((InetSocketAddress) server.getLocalAddress()).getPort();
+            this.conditions = conditions;
+        }
+
+        public String host()                      { return InetAddress.getLoopbackAddress().getHostAddress(); }
+        public int port()                         { return port; }
+        public NetworkConditions conditions()     { return conditions; }
+        public long connectionCount()             { return connections.get(); }
+
+        public void conditions(NetworkConditions conditions) {
+            this.conditions = conditions;
+            selector.wakeup();
+            log.info("Fault injection route {} — {}", port, conditions);
+        }
+
+        @Override
+        public void close() {
+            post(() -> {
+                closeQuietly(server);
+                new ArrayList<>(open).forEach(Pipe::close);
+            });
+            log.info("Fault injection route {} closed after {} connection(s)", port, connections.get());
+        }
+    }
+
+    // ---- Selector loop ----
+
+    private void post(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long now = System.nanoTime();
+                if (nextWakeNanos == Long.MAX_VALUE) {
+                    selector.select();
+                } else if (nextWakeNanos <= now) {
+                    selector.selectNow();
+                } else {
+                    selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextWakeNanos - now)));
+                }
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.attachment() instanceof Route route) {
+                        accept(route);
+                    } else if (key.attachment() instanceof Pipe pipe) {
+                        pipe.onReady(key);
+                    }
+                }
+
+                nextWakeNanos = Long.MAX_VALUE;
+                long pumpTime = System.nanoTime();
+                for (Pipe pipe : new ArrayList<>(pipes)) {
+                    pipe.pump(pumpTime);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Fault injection proxy loop error: {}", e.getMessage(), e);
+            }
+        }
+        new ArrayList<>(pipes).forEach(Pipe::close);
+        for (SelectionKey key : selector.keys()) {
+            closeQuietly(key.channel());
+        }
+        closeQuietly(selector);
+    }
+
+    private void accept(Route route) throws IOException {
+        SocketChannel client;
+        while ((client = route.server.accept()) != null) {
+            client.configureBlocking(false);
+            client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Pipe pipe = new Pipe(route, client);
+            pipe.clientKey = client.register(selector, SelectionKey.OP_READ, pipe);
+            pipes.add(pipe);
+            route.open.add(pipe);
+            route.connections.incrementAndGet();
+        }
+    }
+
+    private void wakeAt(long nanos) {
+        nextWakeNanos = Math.min(nextWakeNanos, nanos);
+    }
+
+    // ---- Connections ----
+
+    private enum State { HEAD, CONNECTING, OPEN }
+
+    private record Chunk(ByteBuffer data, long dueNanos, boolean counted) { }
+
+    /** Data flowing in one direction of a connection */
+    private static final class Flow {
+        final boolean response;
+        final ArrayDeque<Chunk> queue = new ArrayDeque<>();
+        long queued;
+        long faultBytes;
+        boolean sourceEof;
+        boolean sinkShut;
+        boolean blocked;
+        double tokens;
+        long lastRefillNanos = System.nanoTime();
+
+        Flow(boolean response) {
+            this.response = response;
+        }
+    }
+
+    /** A client connection and its upstream */
+    private final class Pipe {
+        final Route route;
+        final SocketChannel client;
+        final Flow up = new Flow(false);
+        final Flow down = new Flow(true);
+        SocketChannel upstream;
+        SelectionKey clientKey;
+        SelectionKey upstreamKey;
+        ByteBuffer head = ByteBuffer.allocate(MAX_HEAD_BYTES);
+        State state = State.HEAD;
+        boolean tunnel;
+        boolean closed;
+
+        Pipe(Route route, SocketChannel client) {
+            this.route = route;
+            this.client = client;
+        }
+
+        void onReady(SelectionKey key) {
+            try {
+                if (key.channel() == upstream) {
+                    if (key.isConnectable()) {
+                        upstream.finishConnect();
+                        onConnected();
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        read(down, upstream);
+                    }
+                } else if (key.isReadable()) {
+                    if (state == State.HEAD) {
+                        readHead();
+                    } else {
+                        read(up, client);
+                    }
+                }
+                // Writability is handled by pump()
+            } catch (IOException e) {
+                log.debug("Proxy connection on route {} failed: {}", route.port, e.getMessage());
+                if (state == State.CONNECTING) {
+                    reject("502 Bad Gateway");
+                } else {
+                    close();
+                }
+            }
+        }
+
+        private void readHead() throws IOException {
+            if (client.read(head) < 0) {
+                close();
+                return;
+            }
+            int end = indexOf(head, "\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            if (end < 0) {
+                if (!head.hasRemaining()) reject("431 Request Header Fields Too Large");
+                return;
+            }
+            String text = new String(head.array(), 0, end, StandardCharsets.ISO_8859_1);
+            String[] requestLine = text.substring(0, Math.max(0, text.indexOf("\r\n"))).split(" ");
+            if (requestLine.length < 3) {
+                reject("400 Bad Request");
+                return;
+            }
+            String host;
+            int port;
+            if ("CONNECT".equalsIgnoreCase(requestLine[0])) {
+                tunnel = true;
+                int colon = requestLine[1].lastIndexOf(':');
+                host = colon > 0 ? requestLine[1].substring(0, colon) : requestLine[1];
+                port = colon > 0 ? Integer.parseInt(requestLine[1].substring(colon + 1)) : 443;
+            } else {
+                URI target = URI.create(requestLine[1]);
+                if (target.getHost() == null) {
+                    reject("400 Bad Request");
+                    return;
+                }
+                host = target.getHost();
+                port = target.getPort() > 0 ? target.getPort() : 80;
+            }
+
+            // Anything after the CONNECT head is already tunnel data; plain requests are forwarded as a whole
+            head.flip();
+            if (tunnel) head.position(end + 4);
+            if (head.hasRemaining()) {
+                ByteBuffer rest = ByteBuffer.allocate(head.remaining()).put(head).flip();
+                enqueue(up, rest, true, System.nanoTime());
+            }
+            head = null;
+            state = State.CONNECTING;
+            updateInterest();
+
+            // Resolve off the selector thread; DNS lookups can block
+            Thread.ofVirtual().start(() -> {
+                InetSocketAddress address = new InetSocketAddress(host, port);
+                post(() -> connect(address));
+            });
+        }
+
+        private void connect(InetSocketAddress address) {
+            if (closed) return;
+            if (address.isUnresolved()) {
+                log.debug("Proxy route {} cannot resolve {}", route.port, address);
+                reject("502 Bad Gateway");
+                return;
+            }
+            try {
+                upstream = SocketChannel.open();
+                upstream.configureBlocking(false);
+                upstream.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                boolean connected = upstream.connect(address);
+                upstreamKey = upstream.register(selector, connected ? 0 : SelectionKey.OP_CONNECT, this);
+                if (connected) onConnected();
+            } catch (IOException e) {
+                log.debug("Proxy route {} cannot connect to {}: {}", route.port, address, e.getMessage());
+                reject("502 Bad Gateway");
+            }
+        }
+
+        private void onConnected() {
+            state = State.OPEN;
+            if (tunnel) {
+                enqueue(down, ByteBuffer.wrap(CONNECT_OK), false, System.nanoTime());
+            }
+            updateInterest();
+        }
+
+        private void read(Flow flow, SocketChannel source) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            int n = source.read(buffer);
+            if (n < 0) {
+                flow.sourceEof = true;
+            } else if (n > 0) {
+                enqueue(flow, buffer.flip(), true, System.nanoTime());
+            }
+        }
+
+        private void enqueue(Flow flow, ByteBuffer data, boolean counted, long now) {
+            long delay = TimeUnit.MILLISECONDS.toNanos(route.conditions.latencyMs());
+            flow.queue.add(new Chunk(data, now + delay, counted));
+            flow.queued += data.remaining();
+        }
+
+        /** Write whatever is due, propagate half-closes, and update interest ops */
+        void pump(long now) {
+            if (closed) return;
+            try {
+                if (state == State.OPEN) {
+                    if (!flush(up, upstream, now) || !flush(down, client, now)) return;
+                    propagateEof(up, upstream);
+                    propagateEof(down, client);
+                    if (up.sinkShut && down.sinkShut) {
+                        close();
+                        return;
+                    }
+                }
+                updateInterest();
+            } catch (IOException e) {
+                log.debug("Proxy connection on route {} closed: {}", route.port, e.getMessage());
+                close();
+            }
+        }
+
+        /**
+         * @return false if the connection was closed by a fault
+         */
+        private boolean flush(Flow flow, SocketChannel sink, long now) throws IOException {
+            NetworkConditions conditions = route.conditions;
+            flow.blocked = false;
+            while (!flow.queue.isEmpty()) {
+                Chunk chunk = flow.queue.peek();
+                if (chunk.dueNanos() > now) {
+                    wakeAt(chunk.dueNanos());
+                    return true;
+                }
+                long want = chunk.data().remaining();
+                boolean faulty = flow.response && chunk.counted();
+                if (faulty) {
+                    long limit = faultLimit(flow, conditions);
+                    if (limit == 0) return false;
+                    want = Math.min(want, limit);
+                }
+                if (conditions.bandwidthBytesPerSecond() > 0) {
+                    long rate = conditions.bandwidthBytesPerSecond();
+                    refill(flow, rate, now);
+                    if (flow.tokens < 1) {
+                        double needed = Math.min(want, 1024) - flow.tokens;
+                        wakeAt(now + (long) Math.ceil(needed * 1e9 / rate));
+                        return true;
+                    }
+                    want = Math.min(want, (long) flow.tokens);
+                }
+
+                ByteBuffer slice = chunk.data().slice();
+                slice.limit((int) want);
+                int written = sink.write(slice);
+                chunk.data().position(chunk.data().position() + written);
+                flow.queued -= written;
+                if (conditions.bandwidthBytesPerSecond() > 0) flow.tokens -= written;
+                if (faulty) flow.faultBytes += written;
+                if (!chunk.data().hasRemaining()) flow.queue.poll();
+                if (written < want) {
+                    flow.blocked = true;    // socket buffer full; wait for OP_WRITE
+                    return true;
+                }
+                if (faulty && faultLimit(flow, conditions) == 0) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Response bytes that may still be delivered before a fault fires;
+         * applies the fault and returns 0 once the limit is reached.
+         */
+        private long faultLimit(Flow flow, NetworkConditions conditions) {
+            long limit = Long.MAX_VALUE;
+            if (conditions.resetAfterBytes() >= 0) {
+                if (flow.faultBytes >= conditions.resetAfterBytes()) {
+                    log.debug("Route {}: resetting connection after {} response bytes", route.port, flow.faultBytes);
+                    reset();
+                    return 0;
+                }
+                limit = conditions.resetAfterBytes() - flow.faultBytes;
+            }
+            if (conditions.closeAfterBytes() >= 0) {
+                if (flow.faultBytes >= conditions.closeAfterBytes()) {
+                    log.debug("Route {}: cutting response off after {} bytes", route.port, flow.faultBytes);
+                    close();
+                    return 0;
+                }
+                limit = Math.min(limit, conditions.closeAfterBytes() - flow.faultBytes);
+            }
+            return limit;
+        }
+
+        private void refill(Flow flow, long rate, long now) {
+            // Allow bursts of ~50 ms worth of data
+            double capacity = Math.max(rate / 20.0, 1024);
+            double elapsed = (now - flow.lastRefillNanos) / 1e9;
+            flow.tokens = Math.min(capacity, flow.tokens + elapsed * rate);
+            flow.lastRefillNanos = now;
+        }
+
+        private void propagateEof(Flow flow, SocketChannel sink) throws IOException {
+            if (flow.sourceEof && flow.queue.isEmpty() && !flow.sinkShut) {
+                sink.shutdownOutput();
+                flow.sinkShut = true;
+            }
+        }
+
+        private void updateInterest() {
+            if (closed) return;
+            int clientOps = 0;
+            if (state == State.HEAD || (state == State.OPEN && !up.sourceEof && up.queued < MAX_QUEUED_BYTES)) {
+                clientOps |= SelectionKey.OP_READ;
+            }
+            if (down.blocked) clientOps |= SelectionKey.OP_WRITE;
+            if (clientKey.isValid()) clientKey.interestOps(clientOps);
+
+            if (upstreamKey != null && upstreamKey.isValid()) {
+                int upstreamOps;
+                if (state == State.CONNECTING) {
+                    upstreamOps = SelectionKey.OP_CONNECT;
+                } else {
+                    upstreamOps = !down.sourceEof && down.queued < MAX_QUEUED_BYTES ? SelectionKey.OP_READ : 0;
+                    if (up.blocked) upstreamOps |= SelectionKey.OP_WRITE;
+                }
+                upstreamKey.interestOps(upstreamOps);
+            }
+        }
+
+        private void reject(String status) {
+            try {
+                client.write(ByteBuffer.wrap(("HTTP/1.1 " + status + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII)));
+            } catch (IOException ignored) {
+                // closing anyway
+            }
+            close();
+        }
+
+        private void reset() {
+            try {
+                client.setOption(StandardSocketOptions.SO_LINGER, 0);
+            } catch (IOException ignored) {
+                // plain close instead
+            }
+            close();
+        }
+
+        void close() {
+            if (closed) return;
+            closed = true;
+            closeQuietly(client);
+            if (upstream != null) closeQuietly(upstream);
+            pipes.remove(this);
+            route.open.remove(this);
+        }
+    }
+
+    // ---- Helpers ----
+
+    private static int indexOf(ByteBuffer buffer, byte[] pattern) {
+        byte[] array = buffer.array();
+        int limit = buffer.position() - pattern.length;
+        outer:
+        for (int i = 0; i <= limit; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (array[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // nothing useful to do
+        }
+    }
+}
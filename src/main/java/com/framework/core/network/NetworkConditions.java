@@ -0,0 +1,47 @@
+package com.framework.core.network;
+
+/**
+ * Degraded network behaviour applied by a {@link FaultInjectionProxy} route.
+ *
+ * @param latencyMs               one-way delay added to every chunk, in both directions
+ * @param bandwidthBytesPerSecond throughput limit per direction and connection; 0 means unlimited
+ * @param resetAfterBytes         abort the connection with a TCP reset once this many response
+ *                                bytes were delivered; -1 disables
+ * @param closeAfterBytes         close the connection (partial response) once this many response
+ *                                bytes were delivered; -1 disables
+ */
+public record NetworkConditions(long latencyMs, long bandwidthBytesPerSecond,
+                                long resetAfterBytes, long closeAfterBytes) {
+
+    /** Pass traffic through unchanged */
+    public static final NetworkConditions NONE = new NetworkConditions(0, 0, -1, -1);
+
+    public NetworkConditions withLatencyMs(long latencyMs) {
+        return new NetworkConditions(latencyMs, bandwidthBytesPerSecond, resetAfterBytes, closeAfterBytes);
+    }
+
+    public NetworkConditions withBandwidth(long bytesPerSecond) {
+        return new NetworkConditions(latencyMs, bytesPerSecond, resetAfterBytes, closeAfterBytes);
+    }
+
+    public NetworkConditions withResetAfterBytes(long bytes) {
+        return new NetworkConditions(latencyMs, bandwidthBytesPerSecond, bytes, closeAfterBytes);
+    }
+
+    public NetworkConditions withCloseAfterBytes(long bytes) {
+        return new NetworkConditions(latencyMs, bandwidthBytesPerSecond, resetAfterBytes, bytes);
+    }
+
+    /** Megabits per second (as in "1 Mbps") to bytes per second */
+    public static long mbps(double megabitsPerSecond) {
+        return Math.max(1, Math.round(megabitsPerSecond * 1_000_000 / 8));
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkConditions{latency=" + latencyMs + "ms" +
+                ", bandwidth=" + (bandwidthBytesPerSecond > 0 ? bandwidthBytesPerSecond + "B/s" : "unlimited") +
+                (resetAfterBytes >= 0 ? ", resetAfter=" + resetAfterBytes + "B" : "") +
+                (closeAfterBytes >= 0 ? ", closeAfter=" + closeAfterBytes + "B" : "") + '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.framework.core.polling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Jittered exponential backoff between polls.
+ * <p>
+ * The n-th delay (0-based) is {@code initialMs * multiplier^n}, capped at
+ * {@code maxMs}, then spread by ±{@code jitter} so that many scenarios
+ * polling the same target do not fire in lock-step.
+ *
+ * @param initialMs  delay before the second poll
+ * @param multiplier growth factor per poll (1.0 = fixed interval)
+ * @param maxMs      upper bound for a single delay
+ * @param jitter     relative spread in [0, 1), e.g. 0.2 for ±20%
+ */
+public record BackoffPolicy(long initialMs, double multiplier, long maxMs, double jitter) {
+
+    public BackoffPolicy {
+        if (initialMs < 1 || maxMs < initialMs) {
+            throw new IllegalArgumentException("Invalid backoff bounds: initial=" + initialMs + "ms, max=" + maxMs + "ms");
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Backoff multiplier must be >= 1.0, got " + multiplier);
+        }
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("Backoff jitter must be in [0, 1), got " + jitter);
+        }
+    }
+
+    /**
+     * Delay in milliseconds to wait after the given (0-based) poll.
+     */
+    public long delayMs(int poll) {
+        double base = Math.min(maxMs, initialMs * Math.pow(multiplier, poll));
+        double spread = jitter == 0 ? 1.0 : 1.0 - jitter + ThreadLocalRandom.current().nextDouble() * 2 * jitter;
+        return Math.max(1, Math.round(base * spread));
+    }
+}
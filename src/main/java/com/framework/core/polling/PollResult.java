@@ -0,0 +1,25 @@
+package com.framework.core.polling;
+
+/**
+ * Outcome of {@link Poller#await}.
+ *
+ * @param ready     whether the condition was met before the timeout
+ * @param polls     number of attempts made
+ * @param elapsedMs time from the first poll until the condition was met
+ *                  (time-to-ready), or until the timeout
+ * @param lastValue value returned by the last successful attempt, may be null
+ * @param lastError exception thrown by the last attempt, if it failed
+ * @param <T>       attempt result type
+ */
+public record PollResult<T>(boolean ready, int polls, long elapsedMs, T lastValue, RuntimeException lastError) {
+
+    @Override
+    public String toString() {
+        return "PollResult{" +
+                "ready=" + ready +
+                ", polls=" + polls +
+                ", elapsedMs=" + elapsedMs +
+                (lastError != null ? ", lastError=" + lastError.getMessage() : "") +
+                '}';
+    }
+}
@@ -0,0 +1,143 @@
+package com.framework.core.polling;
+
+import com.framework.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Suite-wide "eventually" helper: repeats an attempt until a condition
+ * holds or a timeout expires.
+ * <p>
+ * Waiting between polls costs no worker thread. A single shared timer
+ * thread schedules the next attempt, each attempt runs on a fresh virtual
+ * thread, and the calling scenario thread just parks on a future until the
+ * outcome is known. Delays follow a jittered exponential {@link BackoffPolicy}
+ * so parallel scenarios do not hammer the target in lock-step.
+ * <p>
+ * Defaults come from {@code polling.*} in {@code application.yml}. When the
+ * Spring context shuts down, both executors are stopped and polls still
+ * waiting fail with an {@link IllegalStateException}.
+ */
+@Component
+public class Poller implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(Poller.class);
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("poller-timer").daemon().factory());
+    private final ExecutorService attempts = Executors.newVirtualThreadPerTaskExecutor();
+    /** Runs whose outcome is not known yet */
+    private final Set<PollRun<?>> pending = ConcurrentHashMap.newKeySet();
+    private final BackoffPolicy defaultPolicy;
+
+    public Poller(ConfigManager config) {
+        this.defaultPolicy = new BackoffPolicy(
+                config.getLong("polling.initial-interval-ms", 250),
+                config.getDouble("polling.multiplier", 2.0),
+                config.getLong("polling.max-interval-ms", 5_000),
+                config.getDouble("polling.jitter", 0.2));
+    }
+
+    /**
+     * Poll with the configured default backoff.
+     */
+    public <T> PollResult<T> await(Supplier<T> attempt, Predicate<T> ready, Duration timeout) {
+        return await(attempt, ready, timeout, defaultPolicy);
+    }
+
+    /**
+     * Call {@code attempt} until {@code ready} accepts its result or {@code timeout}
+     * elapses. Exceptions from the attempt or the predicate count as "not ready yet".
+     * The first attempt is made immediately; the last one no later than the deadline.
+     */
+    public <T> PollResult<T> await(Supplier<T> attempt, Predicate<T> ready, Duration timeout, BackoffPolicy policy) {
+        PollRun<T> run = new PollRun<>(attempt, ready, policy, System.nanoTime() + timeout.toNanos());
+        pending.add(run);
+        run.done.whenComplete((result, error) -> pending.remove(run));
+        attempts.execute(run::poll);
+        try {
+            PollResult<T> result = run.done.get();
+            log.info("Polling finished — {}", result);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while polling", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Polling failed", e.getCause());
+        }
+    }
+
+    /**
+     * Stop scheduling and interrupt in-flight attempts; polls still waiting
+     * fail instead of hanging their scenario threads.
+     */
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        attempts.shutdownNow();
+        IllegalStateException shutDown = new IllegalStateException("Poller shut down");
+        pending.forEach(run -> run.done.completeExceptionally(shutDown));
+        pending.clear();
+    }
+
+    /**
+     * State of one await() call. Only one attempt is in flight at a time,
+     * so fields are written by one thread at a time; the future publishes them.
+     */
+    private final class PollRun<T> {
+        final Supplier<T> attempt;
+        final Predicate<T> ready;
+        final BackoffPolicy policy;
+        final long start = System.nanoTime();
+        final long deadline;
+        final CompletableFuture<PollResult<T>> done = new CompletableFuture<>();
+
+        int polls;
+        T lastValue;
+        RuntimeException lastError;
+
+        PollRun(Supplier<T> attempt, Predicate<T> ready, BackoffPolicy policy, long deadline) {
+            this.attempt = attempt;
+            this.ready = ready;
+            this.policy = policy;
+            this.deadline = deadline;
+        }
+
+        void poll() {
+            boolean ok = false;
+            try {
+                lastValue = attempt.get();
+                lastError = null;
+                ok = ready.test(lastValue);
+            } catch (RuntimeException e) {
+                lastError = e;
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+                return;
+            }
+            polls++;
+
+            long now = System.nanoTime();
+            if (ok || now >= deadline) {
+                done.complete(new PollResult<>(ok, polls, (now - start) / 1_000_000, lastValue, lastError));
+                return;
+            }
+            long delayNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(policy.delayMs(polls - 1)), deadline - now);
+            timer.schedule(() -> attempts.execute(this::poll), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.framework.core.ratelimit;
+
+import com.framework.core.config.ConfigManager;
+import com.framework.core.metrics.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client-side request rate limits per target host, shared by all parallel
+ * workers of the run.
+ * <p>
+ * Limits are configured per protocol under {@code <protocol>.rate-limit}
+ * (e.g. {@code rest.rate-limit.rps}); a host can have its own limit under
+ * {@code <protocol>.rate-limit.hosts.<host>} (or {@code <host>:<port>}).
+ * A rate of 0 — the default — means unlimited. Each limited host gets one
+ * {@link TokenBucket}; the time every request spent waiting for its permit
+ * is recorded in {@link LatencyRecorder#rateLimitWaitStats()}.
+ * <p>
+ * A single JVM-wide instance is used because clients are created
+ * reflectively and the limit must hold across all of them.
+ */
+public final class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final RateLimiter GLOBAL = new RateLimiter();
+
+    /** Marks targets without a limit */
+    private static final Limit UNLIMITED = new Limit(null, null, null);
+
+    private record Limit(String protocol, String host, TokenBucket bucket) {
+    }
+
+    /** By protocol and host */
+    private final Map<String, Limit> hosts = new ConcurrentHashMap<>();
+
+    /** By protocol and target as given, so URIs are parsed once per distinct target */
+    private final Map<String, Limit> targets = new ConcurrentHashMap<>();
+
+    public static RateLimiter global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Take a permit for a request to {@code target}, waiting if the host's
+     * rate is exhausted.
+     *
+     * @param target base URL or host the request goes to; null means no limit applies
+     * @return nanoseconds spent waiting
+     */
+    public long acquire(ConfigManager config, String protocol, String target) {
+        if (target == null) {
+            return 0;
+        }
+        Limit limit = targets.computeIfAbsent(protocol + " " + target, k -> forTarget(config, protocol, target));
+        if (limit.bucket() == null) {
+            return 0;
+        }
+        long waited = limit.bucket().acquire();
+        LatencyRecorder.global().recordRateLimitWait(limit.protocol(), limit.host(), waited / 1_000);
+        return waited;
+    }
+
+    private Limit forTarget(ConfigManager config, String protocol, String target) {
+        URI uri = URI.create(target.contains("://") ? target : "//" + target);
+        if (uri.getHost() == null) {
+            return UNLIMITED;
+        }
+        String host = uri.getPort() > 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+        return hosts.computeIfAbsent(protocol + " " + host, k -> create(config, protocol, uri.getHost(), host));
+    }
+
+    private static Limit create(ConfigManager config, String protocol, String hostName, String hostAndPort) {
+        String prefix = protocol.toLowerCase(Locale.ROOT) + ".rate-limit.";
+        String hostPrefix = prefix + "hosts." + hostAndPort + ".";
+        if (config.getString(hostPrefix + "rps") == null) {
+            hostPrefix = prefix + "hosts." + hostName + ".";
+        }
+        double rps = config.getDouble(hostPrefix + "rps", config.getDouble(prefix + "rps", 0));
+        if (rps <= 0) {
+            return UNLIMITED;
+        }
+        int burst = config.getInt(hostPrefix + "burst",
+                config.getInt(prefix + "burst", Math.max(1, (int) Math.ceil(rps))));
+        TokenBucket bucket = new TokenBucket(rps, Math.max(1, burst));
+        log.info("{} rate limit for {}: {} requests/s, burst {}", protocol, hostAndPort, rps, bucket.burst());
+        return new Limit(protocol, hostAndPort, bucket);
+    }
+}
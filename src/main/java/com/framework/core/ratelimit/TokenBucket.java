@@ -0,0 +1,74 @@
+package com.framework.core.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Instead of a token count refilled by a timer, the bucket keeps the
+ * "theoretical arrival time" of the next permit (the GCRA formulation of a
+ * token bucket): a caller reserves a permit with a single compare-and-set
+ * that moves this time one interval ({@code 1 / rate}) forward, then parks
+ * until its permit is due — outside of any lock, so parallel workers never
+ * queue on a monitor. Up to {@code burst} permits are available at once
+ * after an idle period.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    /** When the bucket will be empty again if nothing else is reserved */
+    private final AtomicLong nextFree;
+
+    /**
+     * @param permitsPerSecond sustained rate, greater than 0
+     * @param burst            permits available at once after an idle period, at least 1
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be > 0 and burst >= 1, got " + permitsPerSecond + "/" + burst);
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.nextFree = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Take one permit, waiting until it is available.
+     *
+     * @return nanoseconds spent waiting
+     */
+    public long acquire() {
+        long now;
+        long due;
+        while (true) {
+            now = System.nanoTime();
+            long current = nextFree.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (nextFree.compareAndSet(current, next)) {
+                due = next - burstNanos;
+                break;
+            }
+        }
+        long wait = due - now;
+        if (wait <= 0) {
+            return 0;
+        }
+        long remaining = wait;
+        while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = due - System.nanoTime();
+        }
+        return System.nanoTime() - now;
+    }
+
+    public double permitsPerSecond() {
+        return 1_000_000_000d / intervalNanos;
+    }
+
+    public int burst() {
+        return (int) (burstNanos / intervalNanos);
+    }
+}
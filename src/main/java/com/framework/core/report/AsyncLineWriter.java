@@ -0,0 +1,115 @@
+package com.framework.core.report;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends text lines to a file from a single background thread.
+ * <p>
+ * Callers only enqueue; formatting-free I/O happens off the test threads
+ * through a large buffered writer. The queue is bounded, so a slow disk
+ * applies back-pressure instead of growing the heap. The file is flushed
+ * whenever the writer has been idle for a second, so a crashed run still
+ * leaves a usable partial stream.
+ */
+final class AsyncLineWriter implements Closeable {
+
+    /** End-of-stream marker; compared by identity so no real line can match it */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String EOF = new String("<eof>");
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_BATCH = 1024;
+
+    private final BlockingQueue<String> queue;
+    private final Writer out;
+    private final Thread thread;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    AsyncLineWriter(Path file, int capacity) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = Thread.ofPlatform().name("ndjson-writer").daemon().start(this::drain);
+    }
+
+    /**
+     * Enqueue one line (without the trailing newline). Blocks only while the
+     * queue is full and the writer thread is still alive to empty it.
+     */
+    void write(String line) {
+        if (closed || failure != null || !thread.isAlive()) return;
+        try {
+            while (!queue.offer(line, 1, TimeUnit.SECONDS)) {
+                if (failure != null || !thread.isAlive()) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Write everything still queued, flush and close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            // A writer thread that has died no longer empties the queue: don't wait for room
+            while (thread.isAlive() && !queue.offer(EOF, 1, TimeUnit.SECONDS)) {
+                if (failure != null) break;
+            }
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            out.close();
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (true) {
+                String first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    out.flush();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                for (String line : batch) {
+                    if (line == EOF) {
+                        out.flush();
+                        return;
+                    }
+                    out.write(line);
+                    out.write('\n');
+                }
+                batch.clear();
+            }
+        } catch (IOException e) {
+            failure = e;
+            queue.clear();
+        } catch (RuntimeException e) {
+            failure = new IOException("NDJSON writer failed", e);
+            queue.clear();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.framework.core.report;
+
+import com.framework.core.compare.ComparisonRecorder;
+import com.framework.core.config.ConfigManager;
+import com.framework.core.metrics.LatencyStats;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cucumber plugin that writes the side-by-side report of environment
+ * comparison mode ({@code compare.environments}): per endpoint, p50/p95
+ * latency in every environment, the p95 change against the primary one,
+ * and how many responses differed or failed, with sample differences.
+ * <p>
+ * Configured under {@code compare.*} in {@code application.yml}:
+ * <ul>
+ *   <li>{@code report-file} — where the report is written</li>
+ *   <li>{@code max-slowdown-percent} — fail the run if an environment's
+ *       overall p95 is this much slower than the primary's; -1 (default)
+ *       only reports</li>
+ * </ul>
+ * Does nothing when comparison mode is off.
+ * <p>
+ * Enable with {@code cucumber.plugin=com.framework.core.report.ComparisonReportPlugin}.
+ */
+public class ComparisonReportPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ComparisonReportPlugin.class);
+
+    private final Path reportFile;
+    private final double maxSlowdownPercent;
+
+    public ComparisonReportPlugin() {
+        ConfigManager config = new ConfigManager();
+        this.reportFile = Path.of(config.getString("compare.report-file", "target/compare/environment-comparison.txt"));
+        this.maxSlowdownPercent = config.getDouble("compare.max-slowdown-percent", -1);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunFinished.class, this::onRunFinished);
+    }
+
+    private void onRunFinished(TestRunFinished event) {
+        ComparisonRecorder recorder = ComparisonRecorder.global();
+        List<String> envs = recorder.environments();
+        if (envs.size() < 2 || recorder.isEmpty()) {
+            return;
+        }
+
+        List<String> slower = new ArrayList<>();
+        String report = report(recorder, envs, slower);
+        try {
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write comparison report " + reportFile, e);
+        }
+        log.info("Environment comparison ({}):\n{}", reportFile, report);
+
+        if (!slower.isEmpty() && maxSlowdownPercent >= 0) {
+            throw new IllegalStateException("Environment(s) slower than '" + envs.get(0) + "' by more than "
+                    + maxSlowdownPercent + "% — see " + reportFile + ":\n" + String.join("\n", slower));
+        }
+    }
+
+    private String report(ComparisonRecorder recorder, List<String> envs, List<String> slower) {
+        String primary = envs.get(0);
+        StringBuilder sb = new StringBuilder();
+        sb.append("Environment comparison — primary '").append(primary).append("' vs ")
+                .append(envs.subList(1, envs.size())).append('\n');
+
+        // Header: one p50/p95 column per environment, then per compared env: p95 change, differing, failed
+        sb.append(String.format("%-8s", "REQUESTS"));
+        for (String env : envs) sb.append(String.format(" %-18s", env + " p50/p95"));
+        for (String env : envs.subList(1, envs.size())) {
+            sb.append(String.format(" %-10s %-6s %-6s", env + " Δp95", "diff", "err"));
+        }
+        sb.append(" KEY\n");
+
+        List<String> samples = new ArrayList<>();
+        for (Map.Entry<String, ComparisonRecorder.Endpoint> e : recorder.endpoints().entrySet()) {
+            ComparisonRecorder.Endpoint endpoint = e.getValue();
+            sb.append(String.format("%-8d", endpoint.requests()));
+            for (String env : envs) {
+                LatencyStats stats = endpoint.latency(env);
+                sb.append(String.format(" %-18s", stats.count() > 0 ? fmt(stats.p50Ms()) + " / " + fmt(stats.p95Ms()) : "-"));
+            }
+            LatencyStats base = endpoint.latency(primary);
+            for (String env : envs.subList(1, envs.size())) {
+                sb.append(String.format(" %-10s %-6d %-6d", change(base, endpoint.latency(env)),
+                        endpoint.mismatches(env), endpoint.errors(env)));
+            }
+            sb.append(' ').append(e.getKey()).append('\n');
+            endpoint.samples().forEach(s -> samples.add(e.getKey() + " — " + s));
+        }
+
+        sb.append('\n');
+        LatencyStats overallPrimary = recorder.overall(primary);
+        for (String env : envs.subList(1, envs.size())) {
+            LatencyStats overall = recorder.overall(env);
+            String line = String.format("%s vs %s: p50 %s → %s ms, p95 %s → %s ms (%s)", env, primary,
+                    fmt(overallPrimary.p50Ms()), fmt(overall.p50Ms()),
+                    fmt(overallPrimary.p95Ms()), fmt(overall.p95Ms()), change(overallPrimary, overall));
+            sb.append(line).append('\n');
+            if (maxSlowdownPercent >= 0 && overallPrimary.p95Ms() > 0
+                    && overall.p95Ms() > overallPrimary.p95Ms() * (1 + maxSlowdownPercent / 100.0)) {
+                slower.add(line);
+            }
+        }
+
+        if (!samples.isEmpty()) {
+            sb.append("\nSample differences and failures (vs ").append(primary).append("):\n");
+            samples.forEach(s -> sb.append("  ").append(s).append('\n'));
+        }
+        return sb.toString();
+    }
+
+    private static String change(LatencyStats base, LatencyStats other) {
+        if (base.count() == 0 || other.count() == 0 || base.p95Ms() <= 0) return "-";
+        return String.format("%+.0f%%", (other.p95Ms() / base.p95Ms() - 1) * 100);
+    }
+
+    private static String fmt(double ms) {
+        return ms >= 100 ? String.format("%.0f", ms) : String.format("%.1f", ms);
+    }
+}
@@ -0,0 +1,217 @@
+package com.framework.core.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.framework.core.config.ConfigManager;
+import com.framework.core.metrics.LatencyHistogram;
+import com.framework.core.metrics.LatencyRecorder;
+import com.framework.core.metrics.LatencyStats;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that gates the run on latency regressions.
+ * <p>
+ * During the run it aggregates a latency histogram per step definition
+ * (passed steps only) and reads the per-endpoint, server timing and rate
+ * limit wait histograms kept by {@link LatencyRecorder}. At the end it compares p50 and p95 against a
+ * stored baseline and writes a compact diff report.
+ * <p>
+ * Rate limit waits are reported as {@code INFO}, never as regressions:
+ * they grow with parallelism against a limited host by design.
+ * <p>
+ * Configured under {@code perf-gate.*} in {@code application.yml}:
+ * <ul>
+ *   <li>{@code mode} — {@code warn} (report only), {@code fail} (fail the run
+ *       on regression) or {@code update} (write a new baseline)</li>
+ *   <li>{@code tolerance-percent} — allowed slowdown before a key is flagged</li>
+ *   <li>{@code min-delta-ms} — ignore slowdowns smaller than this in absolute terms</li>
+ *   <li>{@code min-samples} — ignore keys with fewer samples on either side</li>
+ * </ul>
+ * If no baseline exists yet, the current run becomes the baseline.
+ * <p>
+ * Enable with {@code cucumber.plugin=com.framework.core.report.LatencyBaselinePlugin}.
+ */
+public class LatencyBaselinePlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyBaselinePlugin.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /** Keys that are diffed for information but never gate the run */
+    private static final String RATE_LIMIT_WAIT = "rate-limit-wait ";
+
+    private final Map<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+
+    private final Path baselineFile;
+    private final Path reportFile;
+    private final String mode;
+    private final double tolerancePercent;
+    private final double minDeltaMs;
+    private final long minSamples;
+
+    public LatencyBaselinePlugin() {
+        ConfigManager config = new ConfigManager();
+        this.baselineFile = Path.of(config.getString("perf-gate.baseline-file", "perf-baseline/latency-baseline.json"));
+        this.reportFile = Path.of(config.getString("perf-gate.report-file", "target/perf/latency-diff.txt"));
+        this.mode = config.getString("perf-gate.mode", "warn").toLowerCase(Locale.ROOT);
+        this.tolerancePercent = config.getDouble("perf-gate.tolerance-percent", 20);
+        this.minDeltaMs = config.getDouble("perf-gate.min-delta-ms", 5);
+        this.minSamples = config.getLong("perf-gate.min-samples", 3);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onRunFinished);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step
+                && event.getResult().getStatus() == Status.PASSED) {
+            steps.computeIfAbsent("step " + step.getPattern(), k -> new LatencyHistogram())
+                    .recordMicros(event.getResult().getDuration().toNanos() / 1_000);
+        }
+    }
+
+    private void onRunFinished(TestRunFinished event) {
+        Map<String, LatencyStats> current = new TreeMap<>();
+        steps.forEach((k, h) -> current.put(k, h.stats()));
+        LatencyRecorder.global().endpointStats().forEach((k, v) -> current.put("endpoint " + k, v));
+        LatencyRecorder.global().serverTimingStats().forEach((k, v) -> current.put("server-timing " + k, v));
+        LatencyRecorder.global().rateLimitWaitStats().forEach((k, v) -> current.put(RATE_LIMIT_WAIT + k, v));
+
+        if (mode.equals("update") || !Files.exists(baselineFile)) {
+            writeBaseline(current);
+            return;
+        }
+
+        Baseline baseline = readBaseline();
+        List<String> regressions = new ArrayList<>();
+        String report = diff(baseline, current, regressions);
+        write(reportFile, report);
+        log.info("Latency diff against baseline {}:\n{}", baselineFile, report);
+
+        if (!regressions.isEmpty() && mode.equals("fail")) {
+            throw new IllegalStateException(regressions.size() + " latency regression(s) beyond "
+                    + tolerancePercent + "% — see " + reportFile + ":\n" + String.join("\n", regressions));
+        }
+    }
+
+    // ---- Comparison ----
+
+    private String diff(Baseline baseline, Map<String, LatencyStats> current, List<String> regressions) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Latency diff vs baseline of %s (tolerance %.0f%%, min delta %.0fms, mode %s)%n",
+                baseline.createdAt(), tolerancePercent, minDeltaMs, mode));
+        sb.append(String.format("%-8s %-12s %-12s %s%n", "STATUS", "p50 ms", "p95 ms", "KEY"));
+
+        int unchanged = 0;
+        int informational = 0;
+        for (Map.Entry<String, LatencyStats> e : current.entrySet()) {
+            LatencyStats now = e.getValue();
+            LatencyStats before = baseline.stats().get(e.getKey());
+            if (before == null) {
+                sb.append(String.format("%-8s %-12s %-12s %s%n", "NEW",
+                        fmt(now.p50Ms()), fmt(now.p95Ms()), e.getKey()));
+                continue;
+            }
+            if (now.count() < minSamples || before.count() < minSamples) {
+                unchanged++;
+                continue;
+            }
+            boolean p50Regressed = regressed(before.p50Ms(), now.p50Ms());
+            boolean p95Regressed = regressed(before.p95Ms(), now.p95Ms());
+            boolean improved = improved(before.p50Ms(), now.p50Ms()) && improved(before.p95Ms(), now.p95Ms());
+            if (!p50Regressed && !p95Regressed && !improved) {
+                unchanged++;
+                continue;
+            }
+            String status = e.getKey().startsWith(RATE_LIMIT_WAIT) ? "INFO"
+                    : p50Regressed || p95Regressed ? "SLOWER" : "FASTER";
+            String line = String.format("%-8s %-12s %-12s %s", status,
+                    change(before.p50Ms(), now.p50Ms()), change(before.p95Ms(), now.p95Ms()), e.getKey());
+            sb.append(line).append('\n');
+            if (status.equals("SLOWER")) regressions.add(line);
+            if (status.equals("INFO")) informational++;
+        }
+        for (String key : baseline.stats().keySet()) {
+            if (!current.containsKey(key)) {
+                sb.append(String.format("%-8s %-12s %-12s %s%n", "GONE", "-", "-", key));
+            }
+        }
+        sb.append(String.format("%d regressed, %d informational, %d within tolerance%n",
+                regressions.size(), informational, unchanged));
+        return sb.toString();
+    }
+
+    private boolean regressed(double before, double now) {
+        return now - before > minDeltaMs && now > before * (1 + tolerancePercent / 100.0);
+    }
+
+    private boolean improved(double before, double now) {
+        return before - now > minDeltaMs && now < before * (1 - tolerancePercent / 100.0);
+    }
+
+    private static String change(double before, double now) {
+        return fmt(before) + "→" + fmt(now);
+    }
+
+    private static String fmt(double ms) {
+        return ms >= 100 ? String.format("%.0f", ms) : String.format("%.1f", ms);
+    }
+
+    // ---- Baseline file ----
+
+    /**
+     * Persisted baseline: creation time and stats per key.
+     */
+    public record Baseline(String createdAt, Map<String, LatencyStats> stats) {
+    }
+
+    private Baseline readBaseline() {
+        try {
+            return MAPPER.readValue(baselineFile.toFile(), Baseline.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read latency baseline " + baselineFile, e);
+        }
+    }
+
+    private void writeBaseline(Map<String, LatencyStats> current) {
+        try {
+            Path parent = baselineFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            MAPPER.writeValue(baselineFile.toFile(), new Baseline(Instant.now().toString(), current));
+            log.info("Latency baseline written to {} ({} keys)", baselineFile, current.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write latency baseline " + baselineFile, e);
+        }
+    }
+
+    private static void write(Path file, String content) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.framework.core.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.framework.core.config.ConfigManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EmbedEvent;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.WriteEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+
+/**
+ * Low-overhead Cucumber reporter: appends one compact JSON object per event
+ * to an NDJSON file through an {@link AsyncLineWriter}.
+ * <p>
+ * Nothing is accumulated in memory during the run — each event is turned
+ * into a short line and handed to the background writer. The HTML and
+ * JSON reports are built afterwards from the stream by
+ * {@link ReportGenerator}, as a separate step ({@code mvn exec:java@reports})
+ * by default, or at the end of the run with
+ * {@code reporting.generate-on-finish: true}, which builds the whole report
+ * model in the test JVM.
+ * <p>
+ * Usage: {@code com.framework.core.report.NdjsonEventPlugin:target/cucumber-reports/events.ndjson}
+ * <p>
+ * Event types ({@code "e"} field): {@code run}, {@code src}, {@code case},
+ * {@code step}, {@code attach}, {@code done}, {@code end}.
+ */
+public class NdjsonEventPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonEventPlugin.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final AsyncLineWriter writer;
+    private final boolean generateOnFinish;
+
+    public NdjsonEventPlugin(File file) {
+        this.file = file.toPath();
+        ConfigManager config = new ConfigManager();
+        this.generateOnFinish = config.getBoolean("reporting.generate-on-finish", false);
+        try {
+            this.writer = new AsyncLineWriter(this.file, config.getInt("reporting.queue-capacity", 8192));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event stream " + file, e);
+        }
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, this::onRunStarted);
+        publisher.registerHandlerFor(TestSourceRead.class, this::onSourceRead);
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onCaseStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(EmbedEvent.class, this::onEmbed);
+        publisher.registerHandlerFor(WriteEvent.class, this::onWrite);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onRunFinished);
+    }
+
+    // ---- Handlers ----
+
+    private void onRunStarted(TestRunStarted event) {
+        emit(event("run").put("t", event.getInstant().toEpochMilli()));
+    }
+
+    private void onSourceRead(TestSourceRead event) {
+        emit(event("src")
+                .put("uri", event.getUri().toString())
+                .put("feature", featureName(event.getSource())));
+    }
+
+    private void onCaseStarted(TestCaseStarted event) {
+        TestCase tc = event.getTestCase();
+        ObjectNode node = event("case")
+                .put("c", tc.getId().toString())
+                .put("uri", tc.getUri().toString())
+                .put("kw", tc.getKeyword())
+                .put("name", tc.getName())
+                .put("line", tc.getLocation().getLine())
+                .put("t", event.getInstant().toEpochMilli());
+        ArrayNode tags = node.putArray("tags");
+        tc.getTags().forEach(tags::add);
+        emit(node);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        Result result = event.getResult();
+        ObjectNode node;
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            node = event("step")
+                    .put("kw", step.getStep().getKeyword())
+                    .put("text", step.getStep().getText())
+                    .put("line", step.getStep().getLine());
+        } else if (event.getTestStep() instanceof HookTestStep hook && result.getStatus() != Status.PASSED) {
+            // Passing hooks are noise in the report; failing ones explain the scenario result
+            node = event("step")
+                    .put("kw", hook.getHookType().name())
+                    .put("text", hook.getCodeLocation());
+        } else {
+            return;
+        }
+        node.put("c", event.getTestCase().getId().toString())
+                .put("s", result.getStatus().name())
+                .put("d", result.getDuration().toNanos());
+        if (result.getError() != null) {
+            node.put("err", stackTrace(result.getError()));
+        }
+        emit(node);
+    }
+
+    private void onEmbed(EmbedEvent event) {
+        emit(event("attach")
+                .put("c", event.getTestCase().getId().toString())
+                .put("mime", event.getMediaType())
+                .put("name", event.getName())
+                .put("data", Base64.getEncoder().encodeToString(event.getData())));
+    }
+
+    private void onWrite(WriteEvent event) {
+        emit(event("attach")
+                .put("c", event.getTestCase().getId().toString())
+                .put("mime", "text/plain")
+                .put("data", Base64.getEncoder().encodeToString(event.getText().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private void onCaseFinished(TestCaseFinished event) {
+        emit(event("done")
+                .put("c", event.getTestCase().getId().toString())
+                .put("s", event.getResult().getStatus().name())
+                .put("d", event.getResult().getDuration().toNanos()));
+    }
+
+    private void onRunFinished(TestRunFinished event) {
+        emit(event("end")
+                .put("t", event.getInstant().toEpochMilli())
+                .put("s", event.getResult().getStatus().name()));
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.error("Failed to complete event stream {}: {}", file, e.getMessage());
+            return;
+        }
+        if (generateOnFinish) {
+            Path dir = file.toAbsolutePath().getParent();
+            ReportGenerator.generate(file, dir);
+        }
+    }
+
+    // ---- Internal ----
+
+    private static ObjectNode event(String type) {
+        return MAPPER.createObjectNode().put("e", type);
+    }
+
+    private void emit(ObjectNode node) {
+        try {
+            writer.write(MAPPER.writeValueAsString(node));
+        } catch (JsonProcessingException e) {
+            log.warn("Dropping unserialisable report event: {}", e.getMessage());
+        }
+    }
+
+    private static String featureName(String source) {
+        for (String line : source.split("\n", -1)) {
+            String t = line.trim();
+            if (t.startsWith("Feature:")) {
+                return t.substring("Feature:".length()).trim();
+            }
+        }
+        return null;
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter sw = new StringWriter();
+        error.printStackTrace(new PrintWriter(sw));
+        return sw.toString();
+    }
+}
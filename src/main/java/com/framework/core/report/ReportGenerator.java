@@ -0,0 +1,312 @@
+package com.framework.core.report;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds {@code cucumber.json} and {@code cucumber.html} from the event
+ * stream written by {@link NdjsonEventPlugin}.
+ * <p>
+ * The stream is read line by line and folded into a compact model
+ * (features → scenarios → steps); no Cucumber runtime is needed, so this
+ * can run after the tests, on another machine, or not at all.
+ * The JSON output follows the classic Cucumber JSON format so existing
+ * CI report plugins keep working.
+ * <p>
+ * Command line: {@code ReportGenerator <events.ndjson> [output-dir]}
+ * (also bound to {@code mvn exec:java@reports}).
+ */
+public final class ReportGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportGenerator.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ReportGenerator() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReportGenerator <events.ndjson> [output-dir]");
+            System.exit(2);
+        }
+        Path events = Path.of(args[0]);
+        Path outDir = args.length > 1 ? Path.of(args[1]) : events.toAbsolutePath().getParent();
+        generate(events, outDir);
+    }
+
+    /**
+     * Read {@code events} and write {@code cucumber.json} and {@code cucumber.html} into {@code outDir}.
+     */
+    public static void generate(Path events, Path outDir) {
+        long start = System.nanoTime();
+        try {
+            Run run = read(events);
+            Files.createDirectories(outDir);
+            writeJson(run, outDir.resolve("cucumber.json"));
+            writeHtml(run, outDir.resolve("cucumber.html"));
+            log.info("Reports generated in {} from {} ({} scenarios) in {} ms", outDir, events,
+                    run.scenarios.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate reports from " + events, e);
+        }
+    }
+
+    // ---- Model ----
+
+    private static final class Run {
+        final Map<String, Feature> features = new LinkedHashMap<>();
+        final Map<String, Scenario> scenarios = new HashMap<>();
+        long startMs;
+        long endMs;
+        String status;
+    }
+
+    private static final class Feature {
+        final String uri;
+        String name;
+        final List<Scenario> scenarios = new ArrayList<>();
+
+        Feature(String uri) {
+            this.uri = uri;
+        }
+    }
+
+    private static final class Scenario {
+        String keyword;
+        String name;
+        int line;
+        final List<String> tags = new ArrayList<>();
+        final List<Step> steps = new ArrayList<>();
+        final List<Attachment> attachments = new ArrayList<>();
+        String status = "UNDEFINED";
+        long durationNanos;
+    }
+
+    private record Step(String keyword, String text, int line, String status, long durationNanos, String error) {
+    }
+
+    private record Attachment(String mime, String name, String base64) {
+    }
+
+    // ---- Reading ----
+
+    private static Run read(Path events) throws IOException {
+        Run run = new Run();
+        try (BufferedReader reader = Files.newBufferedReader(events, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                JsonNode e = MAPPER.readTree(line);
+                switch (e.path("e").asText()) {
+                    case "run" -> run.startMs = e.path("t").asLong();
+                    case "src" -> feature(run, e.path("uri").asText()).name = text(e, "feature");
+                    case "case" -> {
+                        Scenario sc = new Scenario();
+                        sc.keyword = e.path("kw").asText("Scenario");
+                        sc.name = e.path("name").asText();
+                        sc.line = e.path("line").asInt();
+                        e.path("tags").forEach(t -> sc.tags.add(t.asText()));
+                        run.scenarios.put(e.path("c").asText(), sc);
+                        feature(run, e.path("uri").asText()).scenarios.add(sc);
+                    }
+                    case "step" -> {
+                        Scenario sc = run.scenarios.get(e.path("c").asText());
+                        if (sc != null) {
+                            sc.steps.add(new Step(e.path("kw").asText(), e.path("text").asText(),
+                                    e.path("line").asInt(), e.path("s").asText(), e.path("d").asLong(), text(e, "err")));
+                        }
+                    }
+                    case "attach" -> {
+                        Scenario sc = run.scenarios.get(e.path("c").asText());
+                        if (sc != null) {
+                            sc.attachments.add(new Attachment(e.path("mime").asText(), text(e, "name"), e.path("data").asText()));
+                        }
+                    }
+                    case "done" -> {
+                        Scenario sc = run.scenarios.get(e.path("c").asText());
+                        if (sc != null) {
+                            sc.status = e.path("s").asText();
+                            sc.durationNanos = e.path("d").asLong();
+                        }
+                    }
+                    case "end" -> {
+                        run.endMs = e.path("t").asLong();
+                        run.status = e.path("s").asText();
+                    }
+                    default -> log.debug("Ignoring unknown event: {}", line);
+                }
+            }
+        }
+        return run;
+    }
+
+    private static Feature feature(Run run, String uri) {
+        return run.features.computeIfAbsent(uri, Feature::new);
+    }
+
+    private static String text(JsonNode e, String field) {
+        JsonNode n = e.get(field);
+        return n == null || n.isNull() ? null : n.asText();
+    }
+
+    // ---- Cucumber JSON ----
+
+    private static void writeJson(Run run, Path file) throws IOException {
+        try (JsonGenerator g = MAPPER.getFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            g.useDefaultPrettyPrinter();
+            g.writeStartArray();
+            for (Feature f : run.features.values()) {
+                if (f.scenarios.isEmpty()) continue;
+                String featureId = slug(f.name != null ? f.name : f.uri);
+                g.writeStartObject();
+                g.writeStringField("uri", f.uri);
+                g.writeStringField("id", featureId);
+                g.writeStringField("keyword", "Feature");
+                g.writeStringField("name", f.name != null ? f.name : f.uri);
+                g.writeStringField("description", "");
+                g.writeNumberField("line", 1);
+                g.writeArrayFieldStart("elements");
+                for (Scenario sc : f.scenarios) {
+                    g.writeStartObject();
+                    g.writeStringField("id", featureId + ";" + slug(sc.name));
+                    g.writeStringField("keyword", sc.keyword);
+                    g.writeStringField("name", sc.name);
+                    g.writeStringField("description", "");
+                    g.writeNumberField("line", sc.line);
+                    g.writeStringField("type", "scenario");
+                    g.writeArrayFieldStart("tags");
+                    for (String tag : sc.tags) {
+                        g.writeStartObject();
+                        g.writeStringField("name", tag);
+                        g.writeEndObject();
+                    }
+                    g.writeEndArray();
+                    g.writeArrayFieldStart("steps");
+                    for (Step st : sc.steps) {
+                        g.writeStartObject();
+                        g.writeStringField("keyword", st.keyword());
+                        g.writeStringField("name", st.text());
+                        g.writeNumberField("line", st.line());
+                        writeResult(g, st.status(), st.durationNanos(), st.error());
+                        g.writeEndObject();
+                    }
+                    g.writeEndArray();
+                    if (!sc.attachments.isEmpty()) {
+                        g.writeArrayFieldStart("after");
+                        g.writeStartObject();
+                        writeResult(g, "PASSED", 0, null);
+                        g.writeArrayFieldStart("embeddings");
+                        for (Attachment a : sc.attachments) {
+                            g.writeStartObject();
+                            g.writeStringField("mime_type", a.mime());
+                            g.writeStringField("data", a.base64());
+                            if (a.name() != null) g.writeStringField("name", a.name());
+                            g.writeEndObject();
+                        }
+                        g.writeEndArray();
+                        g.writeEndObject();
+                        g.writeEndArray();
+                    }
+                    g.writeEndObject();
+                }
+                g.writeEndArray();
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+        }
+    }
+
+    private static void writeResult(JsonGenerator g, String status, long durationNanos, String error) throws IOException {
+        g.writeObjectFieldStart("result");
+        g.writeStringField("status", status.toLowerCase(Locale.ROOT));
+        g.writeNumberField("duration", durationNanos);
+        if (error != null) g.writeStringField("error_message", error);
+        g.writeEndObject();
+    }
+
+    private static String slug(String s) {
+        return s.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+
+    // ---- HTML ----
+
+    private static void writeHtml(Run run, Path file) throws IOException {
+        Map<String, Integer> totals = new LinkedHashMap<>();
+        run.scenarios.values().forEach(sc -> totals.merge(sc.status, 1, Integer::sum));
+
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("""
+                    <!DOCTYPE html>
+                    <html><head><meta charset="utf-8"><title>Cucumber Report</title>
+                    <style>
+                    body{font-family:sans-serif;margin:2em;color:#222}
+                    details{margin:.3em 0}summary{cursor:pointer}
+                    .PASSED{color:#2e7d32}.FAILED{color:#c62828}.SKIPPED,.PENDING,.UNDEFINED,.AMBIGUOUS{color:#f9a825}
+                    .steps{margin-left:2em;font-family:monospace}.tag{background:#eee;border-radius:3px;padding:0 4px;margin-right:4px}
+                    pre{background:#f6f6f6;padding:.5em;overflow:auto;max-height:30em}
+                    </style></head><body>
+                    """);
+            w.write("<h1>Cucumber Report</h1>\n<p>");
+            w.write("Run status: <b class=\"" + esc(String.valueOf(run.status)) + "\">" + esc(String.valueOf(run.status)) + "</b>");
+            if (run.endMs > 0 && run.startMs > 0) {
+                w.write(" &middot; duration " + (run.endMs - run.startMs) / 1000.0 + " s");
+            }
+            w.write(" &middot; " + run.scenarios.size() + " scenarios");
+            for (Map.Entry<String, Integer> t : totals.entrySet()) {
+                w.write(" &middot; <span class=\"" + esc(t.getKey()) + "\">" + t.getValue() + " " + esc(t.getKey().toLowerCase(Locale.ROOT)) + "</span>");
+            }
+            w.write("</p>\n");
+
+            for (Feature f : run.features.values()) {
+                if (f.scenarios.isEmpty()) continue;
+                w.write("<h2>" + esc(f.name != null ? f.name : f.uri) + "</h2>\n<p><small>" + esc(f.uri) + "</small></p>\n");
+                for (Scenario sc : f.scenarios) {
+                    boolean failed = !"PASSED".equals(sc.status);
+                    w.write(failed ? "<details open>" : "<details>");
+                    w.write("<summary><span class=\"" + esc(sc.status) + "\">" + esc(sc.status) + "</span> "
+                            + esc(sc.keyword) + ": " + esc(sc.name)
+                            + " <small>(" + sc.durationNanos / 1_000_000 + " ms)</small> ");
+                    for (String tag : sc.tags) w.write("<span class=\"tag\">" + esc(tag) + "</span>");
+                    w.write("</summary>\n<div class=\"steps\">\n");
+                    for (Step st : sc.steps) {
+                        w.write("<div class=\"" + esc(st.status()) + "\">" + esc(st.keyword()) + esc(st.text())
+                                + " <small>(" + st.durationNanos() / 1_000_000 + " ms)</small></div>\n");
+                        if (st.error() != null) w.write("<pre>" + esc(st.error()) + "</pre>\n");
+                    }
+                    for (Attachment a : sc.attachments) {
+                        w.write("<p><b>" + esc(a.name() != null ? a.name() : "Attachment") + "</b> <small>" + esc(a.mime()) + "</small></p>\n");
+                        if (a.mime() != null && (a.mime().startsWith("text/") || a.mime().contains("json") || a.mime().contains("xml"))) {
+                            w.write("<pre>" + esc(new String(Base64.getDecoder().decode(a.base64()), StandardCharsets.UTF_8)) + "</pre>\n");
+                        }
+                    }
+                    w.write("</div></details>\n");
+                }
+            }
+            w.write("</body></html>\n");
+        }
+    }
+
+    private static String esc(String s) {
+        if (s == null) return "";
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,19 @@
+package com.framework.core.soak;
+
+/**
+ * One point of a soak run's time series.
+ *
+ * @param elapsedMs      time since the soak run started
+ * @param iteration      iterations completed when the sample was taken
+ * @param heapUsedBytes  heap in use (after a GC, if {@code soak.force-gc})
+ * @param liveThreads    live platform threads
+ * @param virtualThreads live virtual threads, from a JDK thread dump; -1 if it could not be taken
+ * @param openFiles      open file descriptors; -1 where the JVM cannot tell
+ * @param sockets        open sockets (Linux {@code /proc/self/fd}); -1 elsewhere
+ * @param requests       protocol calls made since the previous sample
+ * @param meanLatencyMs  mean protocol call latency since the previous sample; NaN without calls
+ */
+public record ResourceSample(long elapsedMs, int iteration, long heapUsedBytes, int liveThreads,
+                             long virtualThreads, long openFiles, long sockets, long requests,
+                             double meanLatencyMs) {
+}
@@ -0,0 +1,223 @@
+package com.framework.core.soak;
+
+import com.framework.core.metrics.LatencyRecorder;
+import com.framework.core.metrics.LatencyStats;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.UnixOperatingSystemMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Samples the JVM's resource usage during a soak run and appends every
+ * sample to a CSV file as it is taken, so the time series survives a
+ * crash or an aborted run.
+ * <p>
+ * Latency comes from the run-wide {@link LatencyRecorder}: each sample
+ * holds the mean of the protocol calls made since the previous sample.
+ * <p>
+ * The thread MXBean only sees platform threads, while the framework runs
+ * much of its concurrent work on virtual threads. Those are counted from a
+ * JDK thread dump, which lists every virtual thread while
+ * {@code jdk.trackAllThreads} is on (the default).
+ */
+public final class ResourceSampler implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceSampler.class);
+
+    private static final Path PROC_FDS = Path.of("/proc/self/fd");
+    private static final String HEADER = "elapsed_s,iteration,heap_used_mb,live_threads,virtual_threads,"
+            + "open_files,sockets,requests,mean_latency_ms";
+
+    /** Thread count of each thread container in a JSON thread dump */
+    private static final Pattern THREAD_COUNT = Pattern.compile("\"threadCount\"\\s*:\\s*\"?(\\d+)");
+
+    private final boolean forceGc;
+    private final long startNanos = System.nanoTime();
+    private final BufferedWriter csv;
+    private final Path dumpDir;
+    private int dumps;
+    private final List<ResourceSample> samples = new ArrayList<>();
+
+    private long lastRequests;
+    private double lastLatencySumMs;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param csvFile time series file, overwritten
+     * @param forceGc run a full GC before each sample, so heap figures are live data rather than garbage
+     */
+    public ResourceSampler(Path csvFile, boolean forceGc) {
+        this.forceGc = forceGc;
+        try {
+            Files.createDirectories(csvFile.toAbsolutePath().getParent());
+            this.csv = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+            csv.write(HEADER);
+            csv.newLine();
+            csv.flush();
+            this.dumpDir = Files.createTempDirectory("soak-thread-dumps");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create soak time series " + csvFile, e);
+        }
+    }
+
+    /**
+     * Sample every {@code interval} on a background thread until closed.
+     *
+     * @param iteration supplies the number of completed iterations
+     */
+    public synchronized void start(Duration interval, IntSupplier iteration) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("soak-sampler").factory());
+        long ms = interval.toMillis();
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                sample(iteration.getAsInt());
+            } catch (RuntimeException e) {
+                log.warn("Soak sample failed: {}", e.toString());
+            }
+        }, ms, ms, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Take one sample now and append it to the time series.
+     */
+    public synchronized ResourceSample sample(int iteration) {
+        if (forceGc) {
+            System.gc();
+        }
+        long requests = 0;
+        double latencySumMs = 0;
+        for (LatencyStats stats : LatencyRecorder.global().endpointStats().values()) {
+            requests += stats.count();
+            latencySumMs += stats.meanMs() * stats.count();
+        }
+        long newRequests = requests - lastRequests;
+        double meanLatencyMs = newRequests > 0 ? (latencySumMs - lastLatencySumMs) / newRequests : Double.NaN;
+        lastRequests = requests;
+        lastLatencySumMs = latencySumMs;
+
+        int platformThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        ResourceSample sample = new ResourceSample(
+                (System.nanoTime() - startNanos) / 1_000_000,
+                iteration,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                platformThreads,
+                virtualThreads(platformThreads),
+                openFiles(),
+                sockets(),
+                newRequests,
+                meanLatencyMs);
+        samples.add(sample);
+        write(sample);
+        return sample;
+    }
+
+    public synchronized List<ResourceSample> samples() {
+        return List.copyOf(samples);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        try {
+            csv.close();
+        } catch (IOException e) {
+            log.warn("Failed to close soak time series: {}", e.toString());
+        }
+        try {
+            Files.deleteIfExists(dumpDir);
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", dumpDir, e.toString());
+        }
+    }
+
+    // ---- Internal ----
+
+    private void write(ResourceSample s) {
+        try {
+            csv.write(String.format(Locale.ROOT, "%.1f,%d,%.2f,%d,%d,%d,%d,%d,%s",
+                    s.elapsedMs() / 1000.0, s.iteration(), s.heapUsedBytes() / 1_048_576.0, s.liveThreads(),
+                    s.virtualThreads(), s.openFiles(), s.sockets(), s.requests(),
+                    Double.isNaN(s.meanLatencyMs()) ? "" : String.format(Locale.ROOT, "%.2f", s.meanLatencyMs())));
+            csv.newLine();
+            csv.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write soak sample", e);
+        }
+    }
+
+    /**
+     * Threads in a JSON thread dump (platform and virtual, over all thread
+     * containers) minus the live platform threads; -1 if no dump could be taken.
+     */
+    private long virtualThreads(int platformThreads) {
+        Path dump = dumpDir.resolve("threads-" + (++dumps) + ".json");
+        try {
+            ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                    .dumpThreads(dump.toString(), HotSpotDiagnosticMXBean.ThreadDumpFormat.JSON);
+            long listed = 0;
+            Matcher m = THREAD_COUNT.matcher(Files.readString(dump, StandardCharsets.UTF_8));
+            while (m.find()) {
+                listed += Long.parseLong(m.group(1));
+            }
+            return Math.max(0, listed - platformThreads);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Thread dump for the virtual thread count failed: {}", e.toString());
+            return -1;
+        } finally {
+            try {
+                Files.deleteIfExists(dump);
+            } catch (IOException e) {
+                log.debug("Failed to delete thread dump {}: {}", dump, e.toString());
+            }
+        }
+    }
+
+    private static long openFiles() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return os instanceof UnixOperatingSystemMXBean unix ? unix.getOpenFileDescriptorCount() : -1;
+    }
+
+    private static long sockets() {
+        if (!Files.isDirectory(PROC_FDS)) {
+            return -1;
+        }
+        try (Stream<Path> fds = Files.list(PROC_FDS)) {
+            return fds.filter(ResourceSampler::isSocket).count();
+        } catch (IOException | UncheckedIOException e) {
+            return -1;
+        }
+    }
+
+    private static boolean isSocket(Path fd) {
+        try {
+            return Files.readSymbolicLink(fd).toString().startsWith("socket:");
+        } catch (IOException e) {
+            // Closed between listing and reading
+            return false;
+        }
+    }
+}
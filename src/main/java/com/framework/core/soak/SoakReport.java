@@ -0,0 +1,69 @@
+package com.framework.core.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Trend analysis of a soak run's samples and its text report.
+ *
+ * @param iterations       iterations run
+ * @param failedScenarios  scenario failures over all iterations
+ * @param durationMs       length of the run
+ * @param trends           one trend per metric
+ */
+public record SoakReport(int iterations, long failedScenarios, long durationMs, List<TrendTest.Trend> trends) {
+
+    /**
+     * Analyse the samples after the first {@code warmupSamples}, which
+     * cover class loading, connection pools filling and JIT compilation.
+     */
+    public static SoakReport analyse(List<ResourceSample> samples, int warmupSamples, int iterations,
+                                     long failedScenarios, double zThreshold, double minGrowthPercent) {
+        List<ResourceSample> steady = samples.size() > warmupSamples
+                ? samples.subList(warmupSamples, samples.size())
+                : List.of();
+        long[] times = steady.stream().mapToLong(ResourceSample::elapsedMs).toArray();
+        List<TrendTest.Trend> trends = new ArrayList<>();
+        trends.add(trend("heap used (MB)", steady, times, s -> s.heapUsedBytes() / 1_048_576.0,
+                zThreshold, minGrowthPercent));
+        trends.add(trend("live threads", steady, times, ResourceSample::liveThreads,
+                zThreshold, minGrowthPercent));
+        trends.add(trend("virtual threads", steady, times, ResourceSample::virtualThreads,
+                zThreshold, minGrowthPercent));
+        trends.add(trend("open files", steady, times, ResourceSample::openFiles,
+                zThreshold, minGrowthPercent));
+        trends.add(trend("sockets", steady, times, ResourceSample::sockets,
+                zThreshold, minGrowthPercent));
+        trends.add(trend("mean latency (ms)", steady, times, ResourceSample::meanLatencyMs,
+                zThreshold, minGrowthPercent));
+        long durationMs = samples.isEmpty() ? 0 : samples.get(samples.size() - 1).elapsedMs();
+        return new SoakReport(iterations, failedScenarios, durationMs, List.copyOf(trends));
+    }
+
+    public List<TrendTest.Trend> growing() {
+        return trends.stream().filter(TrendTest.Trend::growing).toList();
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Soak run: %d iteration(s) in %.1f min, %d failed scenario(s)%n",
+                iterations, durationMs / 60_000.0, failedScenarios));
+        sb.append(String.format(Locale.ROOT, "%-8s %-18s %8s %12s %12s %14s %9s %7s%n",
+                "STATUS", "METRIC", "SAMPLES", "START", "END", "SLOPE/HOUR", "GROWTH", "Z"));
+        for (TrendTest.Trend t : trends) {
+            String status = t.samples() < 4 ? "N/A" : t.growing() ? "GROWING" : "ok";
+            sb.append(String.format(Locale.ROOT, "%-8s %-18s %8d %12.2f %12.2f %14.3f %8.1f%% %7.2f%n",
+                    status, t.metric(), t.samples(), t.first(), t.last(), t.slopePerHour(), t.growthPercent(), t.z()));
+        }
+        return sb.toString();
+    }
+
+    private static TrendTest.Trend trend(String metric, List<ResourceSample> samples, long[] times,
+                                         ToDoubleFunction<ResourceSample> value, double zThreshold,
+                                         double minGrowthPercent) {
+        double[] values = samples.stream().mapToDouble(value).toArray();
+        return TrendTest.analyse(metric, times, values, zThreshold, minGrowthPercent);
+    }
+}
@@ -0,0 +1,92 @@
+package com.framework.core.soak;
+
+import java.util.Arrays;
+
+/**
+ * Detects steady growth in a time series with the Mann-Kendall trend test
+ * and estimates its rate with the Theil-Sen slope.
+ * <p>
+ * Both are rank based: a few GC spikes or slow iterations neither hide nor
+ * fake a trend the way they would with a least-squares fit. A series is
+ * flagged when the upward trend is significant ({@code z} above the
+ * threshold) <em>and</em> the estimated growth over the run is a
+ * meaningful fraction of the series' level, so that tiny but steady drifts
+ * do not raise alarms.
+ */
+public final class TrendTest {
+
+    /**
+     * Outcome for one metric.
+     *
+     * @param metric        metric name
+     * @param samples       number of points tested
+     * @param first         median of the first quarter of the points
+     * @param last          median of the last quarter of the points
+     * @param slopePerHour  Theil-Sen slope, in metric units per hour
+     * @param growthPercent estimated growth over the tested span relative to {@code first}
+     * @param z             Mann-Kendall statistic; positive means upward
+     * @param growing       whether the metric is flagged as growing
+     */
+    public record Trend(String metric, int samples, double first, double last, double slopePerHour,
+                        double growthPercent, double z, boolean growing) {
+    }
+
+    private TrendTest() {
+    }
+
+    /**
+     * Test a series for monotonic growth. Points whose value is NaN or
+     * negative (not available) are ignored.
+     *
+     * @param timesMs          sample times
+     * @param values           sample values
+     * @param zThreshold       significance threshold, e.g. 2.33 for p &lt; 0.01 one-sided
+     * @param minGrowthPercent growth below this is not flagged however significant
+     */
+    public static Trend analyse(String metric, long[] timesMs, double[] values, double zThreshold,
+                                double minGrowthPercent) {
+        int n = 0;
+        long[] t = new long[values.length];
+        double[] x = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i]) && values[i] >= 0) {
+                t[n] = timesMs[i];
+                x[n++] = values[i];
+            }
+        }
+        if (n < 4) {
+            return new Trend(metric, n, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0, false);
+        }
+
+        long s = 0;
+        double[] slopes = new double[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                s += Double.compare(x[j], x[i]);
+                if (t[j] != t[i]) {
+                    slopes[k++] = (x[j] - x[i]) / (t[j] - t[i]);
+                }
+            }
+        }
+        // Variance without the tie correction: conservative for series with many equal values
+        double variance = n * (n - 1.0) * (2.0 * n + 5) / 18.0;
+        double z = s > 0 ? (s - 1) / Math.sqrt(variance) : s < 0 ? (s + 1) / Math.sqrt(variance) : 0;
+
+        double slopePerMs = k > 0 ? median(Arrays.copyOf(slopes, k)) : 0;
+        int quarter = Math.max(1, n / 4);
+        double first = median(Arrays.copyOfRange(x, 0, quarter));
+        double last = median(Arrays.copyOfRange(x, n - quarter, n));
+        double growth = slopePerMs * (t[n - 1] - t[0]);
+        double growthPercent = first > 0 ? growth / first * 100 : growth > 0 ? Double.POSITIVE_INFINITY : 0;
+
+        boolean growing = z > zThreshold && growthPercent >= minGrowthPercent;
+        return new Trend(metric, n, first, last, slopePerMs * 3_600_000, growthPercent, z, growing);
+    }
+
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        int mid = values.length / 2;
+        return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+    }
+}
@@ -0,0 +1,90 @@
+package com.framework.core.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One metric of a {@code Server-Timing} response header, e.g.
+ * {@code db;dur=53.2;desc="Orders query"}.
+ *
+ * @param name        metric name
+ * @param durationMs  duration in milliseconds, or {@code NaN} if the server sent none
+ * @param description optional description, may be null
+ */
+public record ServerTiming(String name, double durationMs, String description) {
+
+    public boolean hasDuration() {
+        return !Double.isNaN(durationMs);
+    }
+
+    /**
+     * Parse all metrics of one {@code Server-Timing} header value. Malformed
+     * metrics are skipped rather than failing the request.
+     */
+    public static List<ServerTiming> parse(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<ServerTiming> metrics = new ArrayList<>();
+        for (String metric : split(headerValue, ',')) {
+            List<String> parts = split(metric, ';');
+            String name = parts.get(0).trim();
+            if (name.isEmpty()) continue;
+            double duration = Double.NaN;
+            String description = null;
+            for (int i = 1; i < parts.size(); i++) {
+                String param = parts.get(i);
+                int eq = param.indexOf('=');
+                if (eq < 0) continue;
+                String key = param.substring(0, eq).trim();
+                String value = unquote(param.substring(eq + 1).trim());
+                if (key.equalsIgnoreCase("dur") && Double.isNaN(duration)) {
+                    try {
+                        duration = Double.parseDouble(value);
+                    } catch (NumberFormatException ignored) {
+                        // leave the duration unset
+                    }
+                } else if (key.equalsIgnoreCase("desc") && description == null) {
+                    description = value;
+                }
+            }
+            metrics.add(new ServerTiming(name, duration, description));
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return name + (hasDuration() ? "=" + durationMs + "ms" : "") +
+                (description != null ? " (" + description + ")" : "");
+    }
+
+    /** Split on a separator outside quoted strings */
+    private static List<String> split(String s, char separator) {
+        List<String> out = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' && (i == 0 || s.charAt(i - 1) != '\\')) {
+                quoted = !quoted;
+            }
+            if (c == separator && !quoted) {
+                out.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        out.add(current.toString());
+        return out;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\\\"", "\"").replace("\\\\", "\\");
+        }
+        return value;
+    }
+}
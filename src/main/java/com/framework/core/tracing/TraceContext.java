@@ -0,0 +1,138 @@
+package com.framework.core.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * W3C Trace Context for one scenario: a single trace id shared by every
+ * request of the scenario, with a fresh parent (span) id per request.
+ * <p>
+ * Finished requests are recorded as {@link Span}s — client time plus the
+ * server's {@code Server-Timing} breakdown — so the scenario report can
+ * link each call to the server-side trace. At most {@code maxSpans} are
+ * kept; data-driven scenarios with many requests only count the rest.
+ */
+public final class TraceContext {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final String traceId;
+    private final boolean sampled;
+    private final int maxSpans;
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spanCount = new AtomicInteger();
+
+    public TraceContext(boolean sampled, int maxSpans) {
+        this.traceId = randomHex(2);
+        this.sampled = sampled;
+        this.maxSpans = maxSpans;
+    }
+
+    /**
+     * A standalone trace for requests made outside a scenario.
+     */
+    public static TraceContext newTrace() {
+        return new TraceContext(true, 0);
+    }
+
+    /**
+     * One traced request.
+     *
+     * @param spanId         parent id sent in the request's {@code traceparent}
+     * @param durationMicros client-side duration
+     * @param serverTimings  metrics from the response's {@code Server-Timing} headers
+     */
+    public record Span(String spanId, String protocol, String method, String endpoint,
+                       int status, long durationMicros, List<ServerTiming> serverTimings) {
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder()
+                    .append(method).append(' ').append(endpoint)
+                    .append(" -> ").append(status)
+                    .append(String.format(" in %.1f ms", durationMicros / 1000.0))
+                    .append("  span ").append(spanId);
+            if (!serverTimings.isEmpty()) {
+                sb.append("  server: ");
+                for (int i = 0; i < serverTimings.size(); i++) {
+                    if (i > 0) sb.append(", ");
+                    sb.append(serverTimings.get(i));
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    /**
+     * A {@code traceparent} header value with a new parent id, e.g.
+     * {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}.
+     */
+    public String newTraceparent() {
+        return "00-" + traceId + "-" + randomHex(1) + (sampled ? "-01" : "-00");
+    }
+
+    /** The parent (span) id of a {@code traceparent} value, or null if malformed */
+    public static String spanIdOf(String traceparent) {
+        return traceparent != null && traceparent.length() >= 52 ? traceparent.substring(36, 52) : null;
+    }
+
+    /** The trace id of a {@code traceparent} value, or null if malformed */
+    public static String traceIdOf(String traceparent) {
+        return traceparent != null && traceparent.length() >= 35 ? traceparent.substring(3, 35) : null;
+    }
+
+    public void record(Span span) {
+        if (spanCount.incrementAndGet() <= maxSpans) {
+            spans.add(span);
+        }
+    }
+
+    public List<Span> spans() {
+        return Collections.unmodifiableList(new ArrayList<>(spans));
+    }
+
+    /** Number of requests traced, including those whose spans were not kept */
+    public int requestCount() {
+        return spanCount.get();
+    }
+
+    /**
+     * Human-readable listing for the scenario report.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder("trace-id ").append(traceId)
+                .append(" — ").append(requestCount()).append(" request(s)\n");
+        for (Span span : spans) {
+            sb.append("  ").append(span).append('\n');
+        }
+        int omitted = requestCount() - spans.size();
+        if (omitted > 0) {
+            sb.append("  ... ").append(omitted).append(" more not listed\n");
+        }
+        return sb.toString();
+    }
+
+    // ---- Internal ----
+
+    /** Random lowercase hex of {@code longs * 16} digits, never all zeros */
+    private static String randomHex(int longs) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder sb = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value = random.nextLong();
+            if (value == 0 && i == longs - 1) value = 1;
+            sb.append(HEX.toHexDigits(value));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,369 @@
+package com.framework.core.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.validation.JsonExpectation.Operator;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Evaluates many {@link JsonExpectation}s against one JSON document in a
+ * single pass.
+ * <p>
+ * All streamable paths (see {@link JsonPathPattern}) are matched together
+ * during one walk over a Jackson token stream; subtrees that no path can
+ * reach are skipped without being materialised, and objects/arrays are
+ * only built into trees when an operator needs their full value. The token
+ * stream comes either from the raw body (large responses — the tree is
+ * never built) or from the response's cached tree.
+ * <p>
+ * Paths outside the streamable subset (filters, deep scans) are evaluated
+ * with JsonPath against the same document. Every expectation is checked
+ * and all failures are returned together.
+ */
+public final class JsonAssertions {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Configuration JSON_PATH_CONFIG = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(MAPPER))
+            .build();
+    private static final int MAX_VALUE_PREVIEW = 200;
+
+    private JsonAssertions() {
+    }
+
+    /**
+     * Verify a response body. Bodies of at least {@code streamingThresholdBytes}
+     * bytes (decoded, as received) are streamed; smaller ones reuse
+     * {@link ProtocolResponse#getBodyAsJson()}.
+     *
+     * @return failure messages, one per failed expectation; empty if all passed
+     */
+    public static List<String> verify(ProtocolResponse response, List<JsonExpectation> expectations,
+                                      long streamingThresholdBytes) {
+        String body = response.getBody();
+        if (body != null && bodyBytes(response, body) >= streamingThresholdBytes) {
+            return verify(body, expectations);
+        }
+        return verify(response.getBodyAsJson(), expectations);
+    }
+
+    /**
+     * Verify a raw JSON document with a streaming parser; no tree is built
+     * for the document as a whole.
+     */
+    public static List<String> verify(String json, List<JsonExpectation> expectations) {
+        return evaluate(expectations, () -> MAPPER.createParser(json), () -> JsonPath.using(JSON_PATH_CONFIG).parse(json));
+    }
+
+    /**
+     * Verify an already-parsed JSON tree.
+     */
+    public static List<String> verify(JsonNode tree, List<JsonExpectation> expectations) {
+        return evaluate(expectations, () -> tree.traverse(MAPPER), () -> JsonPath.using(JSON_PATH_CONFIG).parse(tree));
+    }
+
+    // ---- Internal ----
+
+    /** Decoded body size as recorded by the client, else the body's UTF-8 length */
+    private static long bodyBytes(ProtocolResponse response, String body) {
+        if (response.getUncompressedSize() >= 0) return response.getUncompressedSize();
+        return body.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface DocumentSource {
+        DocumentContext open();
+    }
+
+    private static List<String> evaluate(List<JsonExpectation> expectations,
+                                         ParserSource parserSource,
+                                         DocumentSource documentSource) {
+        List<Probe> probes = new ArrayList<>();
+        List<Probe> streamed = new ArrayList<>();
+        List<Probe> fallback = new ArrayList<>();
+        for (JsonExpectation exp : expectations) {
+            Probe probe = new Probe(exp, JsonPathPattern.parse(exp.path()));
+            probes.add(probe);
+            (probe.pattern != null ? streamed : fallback).add(probe);
+        }
+
+        if (!streamed.isEmpty()) {
+            try (JsonParser p = parserSource.open()) {
+                if (p.nextToken() != null) {
+                    walk(p, new ArrayList<>(), streamed);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to parse JSON document: " + e.getMessage(), e);
+            }
+        }
+        if (!fallback.isEmpty()) {
+            DocumentContext doc = documentSource.open();
+            fallback.forEach(probe -> evaluateWithJsonPath(doc, probe));
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (Probe probe : probes) {
+            String failure = probe.finish();
+            if (failure != null) {
+                failures.add("[" + probe.exp + "] " + failure);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Visit the value the parser is positioned on, located at {@code path}.
+     * All {@code candidates} match {@code path} so far.
+     */
+    private static void walk(JsonParser p, List<Object> path, List<Probe> candidates) throws IOException {
+        int depth = path.size();
+        List<Probe> here = new ArrayList<>();
+        List<Probe> deeper = new ArrayList<>();
+        for (Probe probe : candidates) {
+            (probe.pattern.length() == depth ? here : deeper).add(probe);
+        }
+
+        JsonToken token = p.currentToken();
+        if (!token.isStructStart()) {
+            JsonNode value = token == JsonToken.VALUE_NULL ? NullNode.getInstance() : p.readValueAsTree();
+            Observed observed = new Observed(value.getNodeType(), value, value.isTextual() ? value.asText().length() : 0);
+            here.forEach(probe -> probe.accept(observed));
+            return;
+        }
+
+        if (here.stream().anyMatch(probe -> probe.exp.operator().needsContainerValue())) {
+            // Materialise just this subtree, then continue deeper matching on it
+            JsonNode value = p.readValueAsTree();
+            Observed observed = new Observed(value.getNodeType(), value, value.size());
+            here.forEach(probe -> probe.accept(observed));
+            if (!deeper.isEmpty()) {
+                try (JsonParser sub = value.traverse(MAPPER)) {
+                    sub.nextToken();
+                    walkChildren(sub, path, deeper);
+                }
+            }
+            return;
+        }
+
+        JsonNodeType type = token == JsonToken.START_OBJECT ? JsonNodeType.OBJECT : JsonNodeType.ARRAY;
+        int size = walkChildren(p, path, deeper);
+        Observed observed = new Observed(type, null, size);
+        here.forEach(probe -> probe.accept(observed));
+    }
+
+    /**
+     * Iterate the children of the container the parser is positioned on,
+     * descending only where some candidate's next segment matches.
+     *
+     * @return number of children
+     */
+    private static int walkChildren(JsonParser p, List<Object> path, List<Probe> deeper) throws IOException {
+        boolean object = p.currentToken() == JsonToken.START_OBJECT;
+        JsonToken end = object ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        int depth = path.size();
+        int count = 0;
+        while (p.nextToken() != end) {
+            Object step;
+            if (object) {
+                step = p.currentName();
+                p.nextToken();
+            } else {
+                step = count;
+            }
+            List<Probe> next = Collections.emptyList();
+            if (!deeper.isEmpty()) {
+                next = new ArrayList<>();
+                for (Probe probe : deeper) {
+                    if (probe.pattern.segments().get(depth).matches(step)) next.add(probe);
+                }
+            }
+            if (next.isEmpty()) {
+                p.skipChildren();
+            } else {
+                path.add(step);
+                walk(p, path, next);
+                path.remove(path.size() - 1);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static void evaluateWithJsonPath(DocumentContext doc, Probe probe) {
+        Object raw;
+        try {
+            raw = doc.read(probe.exp.path());
+        } catch (PathNotFoundException e) {
+            return;
+        }
+        JsonNode result = raw instanceof JsonNode node ? node : MAPPER.valueToTree(raw);
+        if (!JsonPath.compile(probe.exp.path()).isDefinite() && result != null && result.isArray()) {
+            probe.indefinite = true;
+            result.forEach(node -> probe.accept(Observed.of(node)));
+        } else {
+            probe.accept(Observed.of(result != null ? result : NullNode.getInstance()));
+        }
+    }
+
+    /**
+     * What was found at a matching location. {@code value} is null when only
+     * a container summary (type and size) was needed.
+     */
+    private record Observed(JsonNodeType type, JsonNode value, int size) {
+
+        static Observed of(JsonNode node) {
+            return new Observed(node.getNodeType(), node, node.isTextual() ? node.asText().length() : node.size());
+        }
+
+        String describe() {
+            if (value == null) return type.name().toLowerCase(Locale.ROOT) + " of size " + size;
+            String text = value.isTextual() ? "'" + value.asText() + "'" : value.toString();
+            return text.length() > MAX_VALUE_PREVIEW ? text.substring(0, MAX_VALUE_PREVIEW) + "..." : text;
+        }
+    }
+
+    /**
+     * Per-expectation accumulator. Matches are checked as they are found and
+     * only counters and the first failure are kept.
+     */
+    private static final class Probe {
+        final JsonExpectation exp;
+        final JsonPathPattern pattern;
+        boolean indefinite;
+        int matches;
+        int failures;
+        int lastSize = -1;
+        String firstFailure;
+
+        Probe(JsonExpectation exp, JsonPathPattern pattern) {
+            this.exp = exp;
+            this.pattern = pattern;
+            this.indefinite = pattern != null && !pattern.isDefinite();
+        }
+
+        void accept(Observed observed) {
+            matches++;
+            Operator op = exp.operator();
+            if (op == Operator.EXISTS || op == Operator.ABSENT) return;
+            if (op == Operator.SIZE) {
+                lastSize = observed.size();
+                return;
+            }
+            String failure = check(op, observed, exp.expected());
+            if (failure != null) {
+                failures++;
+                if (firstFailure == null) firstFailure = failure;
+            }
+        }
+
+        String finish() {
+            Operator op = exp.operator();
+            if (op == Operator.EXISTS) {
+                return matches > 0 ? null : "path not found";
+            }
+            if (op == Operator.ABSENT) {
+                return matches == 0 ? null : "expected no match but found " + matches;
+            }
+            if (op == Operator.SIZE) {
+                if (!indefinite && matches == 0) return "path not found";
+                int actual = indefinite ? matches : lastSize;
+                int expected = Integer.parseInt(exp.expected().trim());
+                return actual == expected ? null : "expected size " + expected + " but was " + actual;
+            }
+            if (matches == 0) return "path not found";
+            if (failures == 0) return null;
+            return indefinite
+                    ? failures + " of " + matches + " matches failed, first: " + firstFailure
+                    : firstFailure;
+        }
+    }
+
+    private static String check(Operator op, Observed o, String expected) {
+        JsonNode v = o.value();
+        boolean ok = switch (op) {
+            case EQUALS -> v != null && valueEquals(v, expected);
+            case NOT_EQUALS -> v == null || !valueEquals(v, expected);
+            case CONTAINS -> v != null && valueContains(v, expected);
+            case MATCHES -> v != null && v.isValueNode() && v.asText().matches(expected);
+            case GREATER_THAN -> compare(v, expected) instanceof Integer c && c > 0;
+            case GREATER_OR_EQUAL -> compare(v, expected) instanceof Integer c && c >= 0;
+            case LESS_THAN -> compare(v, expected) instanceof Integer c && c < 0;
+            case LESS_OR_EQUAL -> compare(v, expected) instanceof Integer c && c <= 0;
+            case NOT_EMPTY -> o.type() != JsonNodeType.NULL && o.type() != JsonNodeType.MISSING
+                    && (v != null && v.isValueNode() ? !v.asText().isEmpty() : o.size() > 0);
+            case TYPE -> o.type().name().equalsIgnoreCase(expected.trim());
+            default -> true;
+        };
+        if (ok) return null;
+        return "expected " + op + (expected != null && !expected.isEmpty() ? " " + expected : "")
+                + " but was " + o.describe();
+    }
+
+    private static boolean valueEquals(JsonNode v, String expected) {
+        if (v.isNumber()) {
+            try {
+                return v.decimalValue().compareTo(new BigDecimal(expected.trim())) == 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        if (v.isValueNode()) {
+            return v.asText().equals(expected);
+        }
+        try {
+            return MAPPER.readTree(expected).equals(v);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean valueContains(JsonNode v, String expected) {
+        if (v.isArray()) {
+            for (JsonNode element : v) {
+                if (valueEquals(element, expected)) return true;
+            }
+            return false;
+        }
+        if (v.isObject()) {
+            return v.has(expected);
+        }
+        return v.asText().contains(expected);
+    }
+
+    /**
+     * Numeric comparison.
+     *
+     * @return the comparison result, or {@code null} if either side is not a number
+     */
+    private static Integer compare(JsonNode v, String expected) {
+        if (v == null || !(v.isNumber() || v.isTextual())) return null;
+        try {
+            return new BigDecimal(v.asText().trim()).compareTo(new BigDecimal(expected.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.framework.core.validation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A single {@code path | operator | expected} assertion on a JSON document.
+ * <p>
+ * For wildcard paths (e.g. {@code $.items[*].id}) the operator must hold
+ * for <i>every</i> match, except {@code size}, which compares the number
+ * of matches, and {@code exists} / {@code absent}.
+ *
+ * @param path     JSON path expression
+ * @param operator comparison to apply
+ * @param expected expected value (ignored by {@code exists}, {@code absent}, {@code not empty})
+ */
+public record JsonExpectation(String path, Operator operator, String expected) {
+
+    /**
+     * Supported operators and the symbols/words accepted for each.
+     */
+    public enum Operator {
+        EQUALS(true, "==", "=", "equals", "eq"),
+        NOT_EQUALS(true, "!=", "not equals", "ne"),
+        CONTAINS(true, "contains"),
+        MATCHES(false, "matches", "=~"),
+        GREATER_THAN(false, ">", "gt"),
+        GREATER_OR_EQUAL(false, ">=", "ge"),
+        LESS_THAN(false, "<", "lt"),
+        LESS_OR_EQUAL(false, "<=", "le"),
+        SIZE(false, "size", "has size", "count"),
+        EXISTS(false, "exists"),
+        ABSENT(false, "absent", "not exists"),
+        NOT_EMPTY(false, "not empty"),
+        TYPE(false, "type", "is");
+
+        /** Whether an object/array match needs its full value rather than a size summary */
+        private final boolean needsContainerValue;
+        private final String[] symbols;
+
+        Operator(boolean needsContainerValue, String... symbols) {
+            this.needsContainerValue = needsContainerValue;
+            this.symbols = symbols;
+        }
+
+        boolean needsContainerValue() {
+            return needsContainerValue;
+        }
+
+        public static Operator parse(String text) {
+            String t = text.trim().toLowerCase(Locale.ROOT);
+            for (Operator op : values()) {
+                if (Arrays.asList(op.symbols).contains(t)) return op;
+            }
+            throw new IllegalArgumentException("Unknown JSON assertion operator '" + text + "'. Supported: " +
+                    Arrays.stream(values()).map(o -> o.symbols[0]).toList());
+        }
+
+        @Override
+        public String toString() {
+            return symbols[0];
+        }
+    }
+
+    public static JsonExpectation of(String path, String operator, String expected) {
+        return new JsonExpectation(path, Operator.parse(operator), expected);
+    }
+
+    @Override
+    public String toString() {
+        return path + " " + operator + (expected != null && !expected.isEmpty() ? " " + expected : "");
+    }
+}
@@ -0,0 +1,96 @@
+package com.framework.core.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A JSON path restricted to the subset that can be matched while streaming:
+ * {@code $}, {@code .name}, {@code ['name']}, {@code [n]}, {@code [*]} and {@code .*}.
+ * <p>
+ * Filters ({@code [?(...)]}), deep scans ({@code ..}), slices and unions
+ * are not supported here; {@link #parse(String)} returns {@code null} for
+ * them so the caller can fall back to a full JsonPath evaluation.
+ */
+final class JsonPathPattern {
+
+    /**
+     * One step of the path: a field name, an array index, or a wildcard.
+     */
+    record Segment(String name, int index, boolean wildcard) {
+
+        static Segment field(String name) { return new Segment(name, -1, false); }
+        static Segment index(int index)   { return new Segment(null, index, false); }
+        static Segment any()              { return new Segment(null, -1, true); }
+
+        boolean matches(Object step) {
+            if (wildcard) return true;
+            if (step instanceof String s) return s.equals(name);
+            return step instanceof Integer i && name == null && i == index;
+        }
+    }
+
+    private final String expression;
+    private final List<Segment> segments;
+    private final boolean definite;
+
+    private JsonPathPattern(String expression, List<Segment> segments) {
+        this.expression = expression;
+        this.segments = Collections.unmodifiableList(segments);
+        this.definite = segments.stream().noneMatch(Segment::wildcard);
+    }
+
+    String expression()       { return expression; }
+    List<Segment> segments()  { return segments; }
+    int length()              { return segments.size(); }
+    boolean isDefinite()      { return definite; }
+
+    /**
+     * Parse a path expression.
+     *
+     * @return the pattern, or {@code null} if the expression uses syntax
+     *         outside the streamable subset
+     */
+    static JsonPathPattern parse(String expression) {
+        String expr = expression.trim();
+        if (!expr.startsWith("$") || expr.contains("..")) return null;
+
+        List<Segment> segments = new ArrayList<>();
+        int i = 1;
+        while (i < expr.length()) {
+            char c = expr.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < expr.length() && expr.charAt(i) != '.' && expr.charAt(i) != '[') i++;
+                String name = expr.substring(start, i);
+                if (name.isEmpty()) return null;
+                segments.add(name.equals("*") ? Segment.any() : Segment.field(name));
+            } else if (c == '[') {
+                int end = expr.indexOf(']', i);
+                if (end < 0) return null;
+                String inner = expr.substring(i + 1, end).trim();
+                i = end + 1;
+                if (inner.equals("*")) {
+                    segments.add(Segment.any());
+                } else if (inner.length() >= 2 && (inner.startsWith("'") && inner.endsWith("'")
+                        || inner.startsWith("\"") && inner.endsWith("\""))) {
+                    String name = inner.substring(1, inner.length() - 1);
+                    if (name.contains("'") || name.contains("\"")) return null; // union
+                    segments.add(Segment.field(name));
+                } else if (inner.matches("\\d+")) {
+                    segments.add(Segment.index(Integer.parseInt(inner)));
+                } else {
+                    return null; // filter, slice, negative index, union
+                }
+            } else {
+                return null;
+            }
+        }
+        return new JsonPathPattern(expression, segments);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,101 @@
+package com.framework.core.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Suite-wide cache of compiled JSON Schemas.
+ * <p>
+ * Each schema file is read, parsed and compiled into a validator the first
+ * time it is referenced; every later validation — in any scenario, on any
+ * thread — reuses the compiled instance. Schemas are looked up on the
+ * classpath first, then on the file system, and compiled with that
+ * location as their base, so a relative {@code $ref} such as
+ * {@code "address.json"} resolves to a sibling file.
+ * <p>
+ * Schemas without a {@code $schema} keyword are treated as draft 2020-12.
+ */
+@Component
+public class JsonSchemaCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonSchemaCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Get (or load and compile) the schema at the given location.
+     */
+    public JsonSchema get(String location) {
+        return schemas.computeIfAbsent(location, this::compile);
+    }
+
+    /**
+     * Validate an already-parsed JSON document against a cached schema.
+     *
+     * @return validation errors as messages; empty if the document is valid
+     */
+    public List<String> validate(String schemaLocation, JsonNode document) {
+        return get(schemaLocation).validate(document).stream()
+                .map(ValidationMessage::getMessage)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Number of compiled schemas currently cached.
+     */
+    public int size() {
+        return schemas.size();
+    }
+
+    private JsonSchema compile(String location) {
+        try (InputStream is = open(location)) {
+            JsonNode schemaNode = MAPPER.readTree(is);
+            JsonSchema schema = factory.getSchema(baseOf(location), schemaNode);
+            schema.initializeValidators();
+            log.info("Compiled JSON schema: {}", location);
+            return schema;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load JSON schema: " + location, e);
+        }
+    }
+
+    /** {@code classpath:} or {@code file:} URI of the schema, against which its relative refs resolve */
+    private static SchemaLocation baseOf(String location) {
+        if (Thread.currentThread().getContextClassLoader().getResource(location) != null) {
+            return SchemaLocation.of("classpath:" + location);
+        }
+        return SchemaLocation.of(Path.of(location).toAbsolutePath().toUri().toString());
+    }
+
+    private static InputStream open(String location) throws IOException {
+        InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(location);
+        if (is != null) {
+            return is;
+        }
+        Path path = Path.of(location);
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("JSON schema not found on classpath or file system: " + location);
+        }
+        return Files.newInputStream(path);
+    }
+}
@@ -0,0 +1,193 @@
+package com.framework.protocols.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP content-coding support for {@link RestClient}.
+ * <p>
+ * Supports {@code gzip} and {@code deflate} (both zlib-wrapped and raw,
+ * since servers disagree on what "deflate" means). A response body is
+ * inflated straight into the character decoder, without an intermediate
+ * decompressed byte array; the byte counts on both sides of the decoder
+ * are reported so callers can see what actually crossed the wire. The
+ * compressed body itself is already in memory: REST Assured reads it
+ * before the client sees it.
+ */
+final class ContentCodec {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+    static final String IDENTITY = "identity";
+
+    private ContentCodec() {
+    }
+
+    /**
+     * Result of decoding a response body.
+     *
+     * @param body         decoded text
+     * @param wireBytes    bytes read from the connection (compressed size)
+     * @param decodedBytes bytes after decompression (uncompressed size)
+     */
+    record Decoded(String body, long wireBytes, long decodedBytes) {
+    }
+
+    /**
+     * Whether the given {@code Content-Encoding} value can be handled.
+     */
+    static boolean isSupported(String encoding) {
+        String e = normalize(encoding);
+        return e.equals(GZIP) || e.equals(DEFLATE) || e.equals(IDENTITY);
+    }
+
+    /**
+     * Compress a request body with the given encoding.
+     */
+    static byte[] encode(byte[] body, String encoding) throws IOException {
+        String e = normalize(encoding);
+        if (e.equals(IDENTITY)) return body;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream os = switch (e) {
+            case GZIP -> new GZIPOutputStream(bos);
+            case DEFLATE -> new DeflaterOutputStream(bos);
+            default -> throw new IllegalArgumentException("Unsupported request content encoding: " + encoding);
+        }) {
+            os.write(body);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Compress a request body stream on the fly, for bodies too large to
+     * compress in memory. A virtual thread reads {@code body} and writes the
+     * compressed bytes into a pipe that the returned stream reads from.
+     * <p>
+     * If reading the body fails, the pipe is left unclosed: the reader then
+     * fails on the dead write end instead of sending a truncated body. The
+     * caller must close the returned stream once the request is over — a
+     * writer blocked on a full pipe only notices a reader that has gone
+     * away through that close, after which it fails and closes {@code body}.
+     */
+    static InputStream encodingStream(InputStream body, String encoding) throws IOException {
+        String e = normalize(encoding);
+        if (e.equals(IDENTITY)) return body;
+        if (!e.equals(GZIP) && !e.equals(DEFLATE)) {
+            throw new IllegalArgumentException("Unsupported request content encoding: " + encoding);
+        }
+        PipedInputStream compressed = new PipedInputStream(64 * 1024);
+        PipedOutputStream pipe = new PipedOutputStream(compressed);
+        Thread.ofVirtual().name("request-" + e).start(() -> {
+            try (InputStream source = body) {
+                OutputStream os = e.equals(GZIP) ? new GZIPOutputStream(pipe, 8192) : new DeflaterOutputStream(pipe);
+                source.transferTo(os);
+                os.close();
+            } catch (IOException ignored) {
+                // Either the body failed to read (the reader then fails on the dead write end)
+                // or the reader closed the pipe because the request is over
+            }
+        });
+        return compressed;
+    }
+
+    /**
+     * Decode a response body stream according to its {@code Content-Encoding}.
+     *
+     * @param raw      undecoded body stream as received from the connection
+     * @param encoding value of the {@code Content-Encoding} header, may be null
+     * @param charset  character set of the decoded body
+     */
+    static Decoded decode(InputStream raw, String encoding, Charset charset) throws IOException {
+        CountingInputStream wire = new CountingInputStream(raw);
+        String e = normalize(encoding);
+        InputStream inflated = switch (e) {
+            case GZIP -> new GZIPInputStream(wire, 8192);
+            case DEFLATE -> deflateStream(wire);
+            default -> wire;
+        };
+        CountingInputStream decoded = new CountingInputStream(inflated);
+        StringBuilder sb = new StringBuilder();
+        try (Reader reader = new InputStreamReader(decoded, charset)) {
+            char[] buf = new char[8192];
+            int n;
+            while ((n = reader.read(buf)) != -1) {
+                sb.append(buf, 0, n);
+            }
+        }
+        return new Decoded(sb.toString(), wire.count, decoded.count);
+    }
+
+    /**
+     * Pick zlib-wrapped or raw inflation by peeking at the zlib header.
+     */
+    private static InputStream deflateStream(InputStream in) throws IOException {
+        PushbackInputStream pb = new PushbackInputStream(in, 2);
+        int b0 = pb.read();
+        int b1 = pb.read();
+        if (b1 != -1) pb.unread(b1);
+        if (b0 != -1) pb.unread(b0);
+        boolean zlib = b0 != -1 && b1 != -1 && (b0 & 0x0F) == 8 && ((b0 << 8) | b1) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(pb, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    private static String normalize(String encoding) {
+        return encoding == null || encoding.isBlank() ? IDENTITY : encoding.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counts bytes read through it.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -1,62 +1,216 @@
 package com.framework.protocols.rest;
 
-import com.framework.core.client.ProtocolClient;
+import com.framework.core.auth.TokenCache;
+import com.framework.core.client.MultipartPart;
+import com.framework.core.client.NamedTargetClient;
 import com.framework.core.client.ProtocolRequest;
 import com.framework.core.client.ProtocolResponse;
 import com.framework.core.config.ConfigManager;
+import com.framework.core.tracing.ServerTiming;
+import com.framework.core.tracing.TraceContext;
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
 import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
 /**
  * REST/HTTP protocol client powered by REST Assured.
  * <p>
  * Translates a generic {@link ProtocolRequest} into REST Assured calls
  * and maps the result back to a generic {@link ProtocolResponse}.
+ * <p>
+ * Content coding is handled here rather than by REST Assured so that the
+ * on-the-wire body size can be recorded: the client advertises
+ * {@code rest.compression.accept-encoding}, decodes gzip/deflate responses
+ * itself from the body REST Assured has read into memory, and optionally
+ * compresses request bodies
+ * ({@code rest.compression.request-encoding} or per request).
+ * <p>
+ * Besides text, a body can be a byte array, a {@link ByteBuffer}, a file or
+ * multipart parts. Files (whole-body or multipart) are streamed from disk
+ * rather than loaded onto the heap, so large uploads can run in parallel.
+ * <p>
+ * Requests without explicit credentials get a bearer token from the shared
+ * {@link TokenCache} for {@code auth.default-client} (or the client named on
+ * the request). A 401 answered to a cached token triggers one refresh and retry.
+ * <p>
+ * Each request carries a W3C {@code traceparent} header from the request's
+ * {@link TraceContext} (unless the scenario set one itself or
+ * {@code tracing.enabled} is false), and {@code Server-Timing} response
+ * headers are parsed into {@link ProtocolResponse#getServerTimings()}.
+ * <p>
+ * Besides the default target ({@code rest.*}), the client can be created for
+ * a named service under {@code rest.services.<name>}: base URL, timeout,
+ * auth client, compression and connection pool are read from the service's
+ * section, falling back to {@code rest.*}. Every setting lives on the
+ * instance, so clients for different services run side by side without
+ * touching REST Assured's static configuration.
  */
-public class RestClient implements ProtocolClient {
+public class RestClient implements NamedTargetClient {
 
     private static final Logger log = LoggerFactory.getLogger(RestClient.class);
 
+    /** Value of {@code ProtocolRequest.authClient} that disables automatic authentication */
+    public static final String NO_AUTH = "none";
+
+    private ConfigManager config;
+    /** Service name, or null for the default target */
+    private String service;
     private String baseUrl;
+    private String acceptEncoding;
+    private String requestEncoding;
+    private String defaultAuthClient;
+    private boolean tracing;
+    private boolean relaxedHttps;
+    private RestAssuredConfig restConfig;
+    /** Connection pool of a service with {@code pool.max-connections}; null means REST Assured's default */
+    private SharedConnectionPool pool;
 
     @Override
     public void init(ConfigManager config) {
-        this.baseUrl = config.getString("rest.base-url", "http://localhost:8080");
+        configure(config, null);
+    }
 
-        // Global REST Assured configuration
-        RestAssured.baseURI = this.baseUrl;
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    /**
+     * Initialize for the service configured under {@code rest.services.<service>}.
+     *
+     * @throws IllegalArgumentException if the service has no {@code base-url}
+     */
+    @Override
+    public void init(ConfigManager config, String service) {
+        if (config.getString("rest.services." + service + ".base-url") == null) {
+            throw new IllegalArgumentException("No REST service '" + service
+                    + "' — expected rest.services." + service + ".base-url in the configuration");
+        }
+        configure(config, service);
+    }
 
-        boolean relaxedHttps = config.getBoolean("rest.relaxed-https", false);
-        if (relaxedHttps) {
-            RestAssured.useRelaxedHTTPSValidation();
+    @SuppressWarnings("deprecation") // DefaultHttpClient is the client type REST Assured 5 works with
+    private void configure(ConfigManager config, String service) {
+        this.config = config;
+        this.service = service;
+        this.baseUrl = setting("base-url", "http://localhost:8080");
+        this.defaultAuthClient = setting("auth-client", config.getString("auth.default-client"));
+        this.tracing = config.getBoolean("tracing.enabled", true);
+        this.relaxedHttps = Boolean.parseBoolean(setting("relaxed-https", "false"));
+
+        this.acceptEncoding = setting("compression.accept-encoding", "gzip, deflate");
+        this.requestEncoding = setting("compression.request-encoding", null);
+
+        // Per-instance configuration: clients for different targets can be used side by side
+        int defaultTimeout = Integer.parseInt(setting("timeout-ms", "30000"));
+        int connectTimeout = Integer.parseInt(setting("connect-timeout-ms", String.valueOf(defaultTimeout)));
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", connectTimeout)
+                .setParam("http.socket.timeout", defaultTimeout);
+        int maxConnections = Integer.parseInt(setting("pool.max-connections", "0"));
+        if (maxConnections > 0) {
+            int maxPerRoute = Integer.parseInt(setting("pool.max-per-route", String.valueOf(maxConnections)));
+            this.pool = new SharedConnectionPool(maxConnections, maxPerRoute);
+            httpClientConfig = httpClientConfig.httpClientFactory(() -> new DefaultHttpClient(pool));
         }
+        this.restConfig = RestAssuredConfig.config()
+                .httpClient(httpClientConfig)
+                .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())
+                // Decoding is done in execute() so compressed sizes can be measured
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
 
-        int defaultTimeout = config.getInt("rest.timeout-ms", 30_000);
-        RestAssured.config = RestAssuredConfig.config()
-                .httpClient(HttpClientConfig.httpClientConfig()
-                        .setParam("http.connection.timeout", defaultTimeout)
-                        .setParam("http.socket.timeout", defaultTimeout));
+        log.info("REST client{} initialized — baseUrl={}, relaxedHttps={}, timeout={}ms, connectTimeout={}ms, "
+                        + "pool={}, acceptEncoding={}, authClient={}, tracing={}",
+                service != null ? " for service '" + service + "'" : "", baseUrl, relaxedHttps, defaultTimeout,
+                connectTimeout, pool != null ? maxConnections : "default", acceptEncoding, defaultAuthClient, tracing);
+    }
 
-        log.info("REST client initialized — baseUrl={}, relaxedHttps={}, timeout={}ms",
-                baseUrl, relaxedHttps, defaultTimeout);
+    /** A setting of the service, falling back to {@code rest.<key>} and then to {@code defaultValue} */
+    private String setting(String key, String defaultValue) {
+        String value = service != null ? config.getString("rest.services." + service + "." + key) : null;
+        return value != null ? value : config.getString("rest." + key, defaultValue);
     }
 
     @Override
     public ProtocolResponse execute(ProtocolRequest request) {
         log.info("Executing REST request: {}", request);
 
-        RequestSpecification spec = RestAssured.given();
+        // Automatic OAuth token from the shared cache
+        String oauthClient = oauthClientFor(request);
+        String oauthToken = oauthClient != null
+                ? TokenCache.global().getToken(config, oauthClient, request.getAuthScope())
+                : null;
+
+        String traceparent = traceparentFor(request);
+        Response response = send(request, oauthToken, traceparent);
+        if (response.getStatusCode() == 401 && oauthToken != null) {
+            log.info("REST 401 with cached token for client '{}' — refreshing token and retrying once", oauthClient);
+            TokenCache.global().invalidate(config, oauthClient, request.getAuthScope(), oauthToken);
+            oauthToken = TokenCache.global().getToken(config, oauthClient, request.getAuthScope());
+            traceparent = traceparentFor(request);
+            response = send(request, oauthToken, traceparent);
+        }
+
+        return toProtocolResponse(response, traceparent);
+    }
+
+    /**
+     * Build the REST Assured specification for a request and send it.
+     *
+     * @param oauthToken  bearer token from the token cache, or null
+     * @param traceparent W3C trace context header to add, or null
+     */
+    private Response send(ProtocolRequest request, String oauthToken, String traceparent) {
+        RequestSpecification spec = RestAssured.given()
+                .baseUri(request.getBaseUrl() != null ? request.getBaseUrl() : baseUrl);
+
+        // Per-request timeout and proxy (e.g. a fault injection route)
+        RestAssuredConfig requestConfig = restConfig;
+        if (request.getTimeoutMs() > 0) {
+            int timeout = (int) Math.min(Integer.MAX_VALUE, request.getTimeoutMs());
+            requestConfig = requestConfig.httpClient(requestConfig.getHttpClientConfig()
+                    .setParam("http.connection.timeout", timeout)
+                    .setParam("http.socket.timeout", timeout));
+        }
+        if (request.getBody() == null && request.hasBody()) {
+            // Request logging renders the body as a String up front, which defeats streaming large bodies
+            requestConfig = requestConfig.logConfig(LogConfig.logConfig());
+        }
+        spec.config(requestConfig);
+        if (relaxedHttps) {
+            // After config(): relaxed validation is stored in the spec's SSL config
+            spec.relaxedHTTPSValidation();
+        }
+        if (request.getProxyHost() != null) {
+            spec.proxy(request.getProxyHost(), request.getProxyPort());
+        }
 
         // Headers
         if (!request.getHeaders().isEmpty()) {
             spec.headers(request.getHeaders());
         }
+        if (acceptEncoding != null && !acceptEncoding.isBlank()
+                && request.getHeaders().keySet().stream().noneMatch("Accept-Encoding"::equalsIgnoreCase)) {
+            spec.header("Accept-Encoding", acceptEncoding);
+        }
+        if (traceparent != null && request.getHeaders().keySet().stream().noneMatch("traceparent"::equalsIgnoreCase)) {
+            spec.header("traceparent", traceparent);
+        }
 
         // Query params
         if (!request.getQueryParams().isEmpty()) {
@@ -78,46 +232,263 @@ public class RestClient implements ProtocolClient {
             spec.header("Authorization", "Bearer " + request.getAuthToken());
         } else if (request.getBasicAuthUser() != null) {
             spec.auth().preemptive().basic(request.getBasicAuthUser(), request.getBasicAuthPassword());
+        } else if (oauthToken != null) {
+            spec.header("Authorization", "Bearer " + oauthToken);
         }
 
-        // Body
+        // Body (optionally compressed)
+        String encoding = request.getContentEncoding() != null ? request.getContentEncoding() : requestEncoding;
+        boolean compressed = encoding != null && !encoding.equalsIgnoreCase(ContentCodec.IDENTITY)
+                && request.hasBody() && request.getMultipartParts().isEmpty();
+        if (compressed) {
+            spec.header("Content-Encoding", encoding);
+        }
+        // Body stream handed to REST Assured, closed once the exchange is over (see below)
+        InputStream streamed = null;
         if (request.getBody() != null) {
-            spec.body(request.getBody());
+            spec.body(compressed ? compress(request.getBody().getBytes(StandardCharsets.UTF_8), encoding)
+                    : request.getBody());
+        } else if (request.getBodyBytes() != null) {
+            spec.body(compressed ? compress(request.getBodyBytes(), encoding) : request.getBodyBytes());
+        } else if (request.getBodyBuffer() != null) {
+            streamed = applyBufferBody(spec, request.getBodyBuffer(), compressed ? encoding : null);
+        } else if (request.getBodyFile() != null) {
+            streamed = applyFileBody(spec, request.getBodyFile(), compressed ? encoding : null);
+        } else {
+            request.getMultipartParts().forEach(part -> applyPart(spec, part));
         }
 
         // Execute based on HTTP method
         String method = request.getMethod().toUpperCase();
         String endpoint = request.getEndpoint();
 
-        Response response = switch (method) {
-            case "GET"     -> spec.get(endpoint);
-            case "POST"    -> spec.post(endpoint);
-            case "PUT"     -> spec.put(endpoint);
-            case "PATCH"   -> spec.patch(endpoint);
-            case "DELETE"  -> spec.delete(endpoint);
-            case "HEAD"    -> spec.head(endpoint);
-            case "OPTIONS" -> spec.options(endpoint);
-            default -> throw new IllegalArgumentException("Unsupported HTTP method: " + method);
-        };
+        try {
+            return switch (method) {
+                case "GET"     -> spec.get(endpoint);
+                case "POST"    -> spec.post(endpoint);
+                case "PUT"     -> spec.put(endpoint);
+                case "PATCH"   -> spec.patch(endpoint);
+                case "DELETE"  -> spec.delete(endpoint);
+                case "HEAD"    -> spec.head(endpoint);
+                case "OPTIONS" -> spec.options(endpoint);
+                default -> throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+            };
+        } finally {
+            // If the send failed mid-body, this makes a compressing writer thread fail and release its source
+            closeQuietly(streamed);
+        }
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        if (stream == null) {
+            return;
+        }
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.debug("Failed to close request body stream: {}", e.getMessage());
+        }
+    }
+
+    private ProtocolResponse toProtocolResponse(Response response, String traceparent) {
+        // Decode the buffered wire body, counting bytes before and after decompression
+        ContentCodec.Decoded decoded = decodeBody(response);
 
         // Map to generic response
         ProtocolResponse protoResponse = new ProtocolResponse()
                 .statusCode(response.getStatusCode())
                 .statusLine(response.getStatusLine())
-                .body(response.getBody().asString())
+                .body(decoded.body())
                 .contentType(response.getContentType())
-                .responseTimeMs(response.getTime());
+                .responseTimeMs(response.getTime())
+                .compressedSize(decoded.wireBytes())
+                .uncompressedSize(decoded.decodedBytes())
+                .traceparent(traceparent)
+                .serverTimings(serverTimings(response));
 
         // Copy response headers
         response.getHeaders().forEach(h -> protoResponse.header(h.getName(), h.getValue()));
 
-        // Store the raw REST Assured response for advanced assertions
+        // Store the raw REST Assured response for advanced assertions; its body is the
+        // buffered wire body (still compressed if the server compressed it) and can be read again
         protoResponse.extra("rawResponse", response);
 
-        log.info("REST response: status={}, time={}ms", response.getStatusCode(), response.getTime());
+        log.info("REST response: status={}, time={}ms, wireBytes={}, bodyBytes={}",
+                response.getStatusCode(), response.getTime(), decoded.wireBytes(), decoded.decodedBytes());
         return protoResponse;
     }
 
+    /**
+     * OAuth client to fetch a token for, or null if the request carries its
+     * own credentials or automatic authentication is off.
+     */
+    private String oauthClientFor(ProtocolRequest request) {
+        if (request.getAuthToken() != null || request.getBasicAuthUser() != null
+                || request.getHeaders().keySet().stream().anyMatch("Authorization"::equalsIgnoreCase)) {
+            return null;
+        }
+        String client = request.getAuthClient() != null ? request.getAuthClient() : defaultAuthClient;
+        return client == null || client.isBlank() || NO_AUTH.equalsIgnoreCase(client) ? null : client;
+    }
+
+    /**
+     * The {@code traceparent} to send: the request's own header if it set one,
+     * otherwise a new span of the request's trace (or of a fresh trace).
+     */
+    private String traceparentFor(ProtocolRequest request) {
+        String own = request.getHeaders().entrySet().stream()
+                .filter(e -> e.getKey().equalsIgnoreCase("traceparent"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+        if (own != null || !tracing) {
+            return own;
+        }
+        TraceContext trace = request.getTraceContext() != null ? request.getTraceContext() : TraceContext.newTrace();
+        return trace.newTraceparent();
+    }
+
+    /** All metrics of all {@code Server-Timing} headers (servers may send several) */
+    private static List<ServerTiming> serverTimings(Response response) {
+        return response.getHeaders().getValues("Server-Timing").stream()
+                .flatMap(v -> ServerTiming.parse(v).stream())
+                .toList();
+    }
+
+    private static byte[] compress(byte[] body, String encoding) {
+        try {
+            return ContentCodec.encode(body, encoding);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to " + encoding + "-compress request body", e);
+        }
+    }
+
+    /**
+     * A heap buffer spanning its whole array is sent as that array; any other
+     * buffer (direct, memory-mapped, a slice) is streamed from the buffer
+     * instead of being copied onto the heap.
+     */
+    private static InputStream applyBufferBody(RequestSpecification spec, ByteBuffer buffer, String encoding) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length) {
+            spec.body(encoding != null ? compress(buffer.array(), encoding) : buffer.array());
+            return null;
+        }
+        return applyStreamBody(spec, new ByteBufferInputStream(buffer), encoding);
+    }
+
+    /**
+     * File bodies are handed to REST Assured as a {@link java.io.File}, which
+     * it streams from disk with a known Content-Length; compressed file
+     * bodies are compressed while being sent.
+     */
+    private static InputStream applyFileBody(RequestSpecification spec, Path file, String encoding) {
+        if (!Files.isReadable(file)) {
+            throw new IllegalArgumentException("Request body file not readable: " + file);
+        }
+        if (encoding == null) {
+            spec.body(file.toFile());
+            return null;
+        }
+        try {
+            return applyStreamBody(spec, Files.newInputStream(file), encoding);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open request body file " + file, e);
+        }
+    }
+
+    /** @return the stream handed to REST Assured as the body */
+    private static InputStream applyStreamBody(RequestSpecification spec, InputStream body, String encoding) {
+        try {
+            InputStream stream = encoding != null ? ContentCodec.encodingStream(body, encoding) : body;
+            spec.body(stream);
+            return stream;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to " + encoding + "-compress request body", e);
+        }
+    }
+
+    private static void applyPart(RequestSpecification spec, MultipartPart part) {
+        String mimeType = part.contentType() != null ? part.contentType() : "application/octet-stream";
+        if (part.file() != null) {
+            if (!Files.isReadable(part.file())) {
+                throw new IllegalArgumentException("Multipart file not readable: " + part.file());
+            }
+            spec.multiPart(part.name(), part.file().toFile(), mimeType);
+        } else if (part.bytes() != null) {
+            spec.multiPart(part.name(), part.fileName(), part.bytes(), mimeType);
+        } else if (part.contentType() != null) {
+            spec.multiPart(part.name(), part.text(), part.contentType());
+        } else {
+            spec.multiPart(part.name(), part.text());
+        }
+    }
+
+    /**
+     * Reads a buffer's remaining bytes without changing the caller's buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static ContentCodec.Decoded decodeBody(Response response) {
+        String encoding = response.getHeader("Content-Encoding");
+        if (encoding != null && !ContentCodec.isSupported(encoding)) {
+            log.warn("Unsupported response Content-Encoding '{}'; body left undecoded", encoding);
+            encoding = null;
+        }
+        try {
+            // asByteArray() keeps the body buffered in the response, so rawResponse stays readable
+            return ContentCodec.decode(new ByteArrayInputStream(response.asByteArray()), encoding,
+                    charsetOf(response.getContentType()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + encoding + " response body", e);
+        }
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            for (String part : contentType.split(";")) {
+                String p = part.trim();
+                if (p.regionMatches(true, 0, "charset=", 0, 8)) {
+                    try {
+                        return Charset.forName(p.substring(8).replace("\"", "").trim());
+                    } catch (RuntimeException ignored) {
+                        // fall through to default
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public String targetOf(ProtocolRequest request) {
+        return request.getBaseUrl() != null ? request.getBaseUrl() : baseUrl;
+    }
+
     @Override
     public String getProtocolName() {
         return "REST";
@@ -125,7 +496,35 @@ public class RestClient implements ProtocolClient {
 
     @Override
     public void close() {
-        RestAssured.reset();
-        log.info("REST client closed and RestAssured reset.");
+        // All REST Assured configuration is per instance; nothing global to reset
+        if (pool != null) {
+            pool.close();
+        }
+        log.info("REST client for {} closed.", baseUrl);
+    }
+
+    /**
+     * Connection pool of one service, shared by the short-lived HTTP clients
+     * REST Assured creates per request — so each request keeps its own client
+     * parameters (e.g. a per-request timeout) while connections are reused.
+     * Shutting down a single client must not tear down the pool: it is only
+     * closed with the {@code RestClient}.
+     */
+    @SuppressWarnings("deprecation")
+    private static final class SharedConnectionPool extends PoolingClientConnectionManager {
+
+        SharedConnectionPool(int maxConnections, int maxPerRoute) {
+            setMaxTotal(maxConnections);
+            setDefaultMaxPerRoute(maxPerRoute);
+        }
+
+        @Override
+        public void shutdown() {
+            // Outlives the per-request clients; see close()
+        }
+
+        void close() {
+            super.shutdown();
+        }
     }
 }
@@ -0,0 +1,426 @@
+package com.framework.protocols.stream;
+
+import com.framework.core.client.ProtocolClient;
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming protocol client for WebSocket and Server-Sent Events, built on
+ * the JDK {@link HttpClient}.
+ * <p>
+ * Unlike request/response clients, a {@code SUBSCRIBE} request opens a
+ * long-lived {@link Subscription} that keeps receiving in the background;
+ * the response only describes the handshake and carries the subscription
+ * as the {@code subscription} extra. Supported methods:
+ * <ul>
+ *   <li>{@code SUBSCRIBE} — open a subscription; extras {@code subscription}
+ *       (name, defaults to the endpoint) and {@code transport}
+ *       ({@code websocket} or {@code sse})</li>
+ *   <li>{@code SEND} — send the request body on a WebSocket subscription</li>
+ *   <li>{@code UNSUBSCRIBE} — close a subscription</li>
+ * </ul>
+ * Subscriptions belong to the trace that opened them — in the framework
+ * the scenario's trace — so parallel scenarios may use the same names
+ * without seeing, replacing or closing each other's streams.
+ * <p>
+ * Receiving runs on virtual threads (SSE readers and the HTTP client's
+ * executor), so thousands of subscriptions fit in one JVM.
+ * <p>
+ * Configured under {@code stream.*} in {@code application.yml}.
+ */
+public class StreamClient implements ProtocolClient {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamClient.class);
+
+    public static final String SUBSCRIPTION = "subscription";
+    public static final String TRANSPORT = "transport";
+
+    /** Open subscriptions by owning trace id and name (see {@link #keyOf}) */
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private String baseUrl;
+    private int queueCapacity;
+    private long connectTimeoutMs;
+    private ExecutorService executor;
+    private HttpClient httpClient;
+
+    /** Clients per proxy route, so a scenario's network conditions apply to its streams */
+    private final Map<String, HttpClient> proxiedClients = new ConcurrentHashMap<>();
+
+    @Override
+    public void init(ConfigManager config) {
+        this.baseUrl = config.getString("stream.base-url", "ws://localhost:8080");
+        this.queueCapacity = config.getInt("stream.queue-capacity", 10_000);
+        this.connectTimeoutMs = config.getInt("stream.connect-timeout-ms", 10_000);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = newHttpClient(null);
+
+        log.info("Stream client initialized — baseUrl={}, queueCapacity={}, connectTimeout={}ms",
+                baseUrl, queueCapacity, connectTimeoutMs);
+    }
+
+    @Override
+    public ProtocolResponse execute(ProtocolRequest request) {
+        String method = request.getMethod().toUpperCase();
+        return switch (method) {
+            case "SUBSCRIBE"   -> subscribe(request);
+            case "SEND"        -> send(request);
+            case "UNSUBSCRIBE" -> unsubscribe(request);
+            default -> throw new IllegalArgumentException("Unsupported stream method: " + method
+                    + " (expected SUBSCRIBE, SEND or UNSUBSCRIBE)");
+        };
+    }
+
+    /**
+     * The request owner's open (or ended but not yet closed) subscription by name.
+     *
+     * @throws IllegalArgumentException if there is none
+     */
+    private Subscription subscription(ProtocolRequest request) {
+        Subscription sub = subscriptions.get(keyOf(request));
+        if (sub == null) {
+            String prefix = ownerOf(request) + "/";
+            throw new IllegalArgumentException("No stream subscription '" + nameOf(request) + "'. Open: "
+                    + subscriptions.keySet().stream()
+                            .filter(key -> key.startsWith(prefix))
+                            .map(key -> key.substring(prefix.length()))
+                            .toList());
+        }
+        return sub;
+    }
+
+    private ProtocolResponse subscribe(ProtocolRequest request) {
+        Subscription.Transport transport = transportOf(request);
+        String name = nameOf(request);
+        URI uri = resolve(request, transport);
+        Subscription sub = new Subscription(name, uri.toString(), transport, queueCapacity);
+        Subscription previous = subscriptions.put(keyOf(request), sub);
+        if (previous != null) {
+            log.info("Replacing stream subscription {}", previous);
+            previous.close();
+        }
+
+        log.info("Opening {} subscription '{}' to {}", transport, name, uri);
+        String traceparent = traceparentFor(request);
+        long start = System.nanoTime();
+        int status = transport == Subscription.Transport.WEBSOCKET
+                ? openWebSocket(request, uri, sub, traceparent)
+                : openSse(request, uri, sub, traceparent);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        return new ProtocolResponse()
+                .statusCode(status)
+                .statusLine(transport + " subscription '" + name + "' open")
+                .responseTimeMs(elapsedMs)
+                .traceparent(traceparent)
+                .extra(SUBSCRIPTION, sub);
+    }
+
+    private ProtocolResponse send(ProtocolRequest request) {
+        Subscription sub = subscription(request);
+        long start = System.nanoTime();
+        sub.send(request.getBody() != null ? request.getBody() : "");
+        return new ProtocolResponse()
+                .statusCode(200)
+                .statusLine("sent on '" + sub.name() + "'")
+                .responseTimeMs((System.nanoTime() - start) / 1_000_000)
+                .extra(SUBSCRIPTION, sub);
+    }
+
+    private ProtocolResponse unsubscribe(ProtocolRequest request) {
+        Subscription sub = subscriptions.remove(keyOf(request));
+        if (sub != null) {
+            sub.close();
+            log.info("Closed stream subscription {}", sub);
+        }
+        return new ProtocolResponse()
+                .statusCode(sub != null ? 200 : 404)
+                .statusLine(sub != null ? "closed" : "no such subscription")
+                .extra(SUBSCRIPTION, sub);
+    }
+
+    // ---- Transports ----
+
+    private int openWebSocket(ProtocolRequest request, URI uri, Subscription sub, String traceparent) {
+        WebSocket.Builder builder = clientFor(request).newWebSocketBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs));
+        request.getHeaders().forEach(builder::header);
+        if (traceparent != null && request.getHeaders().keySet().stream().noneMatch("traceparent"::equalsIgnoreCase)) {
+            builder.header("traceparent", traceparent);
+        }
+
+        try {
+            WebSocket webSocket = builder.buildAsync(uri, new Listener(sub))
+                    .get(connectTimeoutMs, TimeUnit.MILLISECONDS);
+            sub.attachWebSocket(webSocket);
+            return 101;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while opening WebSocket " + uri, e);
+        } catch (ExecutionException | TimeoutException e) {
+            subscriptions.remove(keyOf(request), sub);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Failed to open WebSocket " + uri + ": " + cause, cause);
+        }
+    }
+
+    private int openSse(ProtocolRequest request, URI uri, Subscription sub, String traceparent) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Accept", "text/event-stream")
+                .header("Cache-Control", "no-cache")
+                .GET();
+        request.getHeaders().forEach(builder::header);
+        if (traceparent != null && request.getHeaders().keySet().stream().noneMatch("traceparent"::equalsIgnoreCase)) {
+            builder.header("traceparent", traceparent);
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            // Only the handshake is bounded; the body stays open for as long as the stream runs
+            response = clientFor(request).sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream())
+                    .get(connectTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while opening SSE stream " + uri, e);
+        } catch (ExecutionException | TimeoutException e) {
+            subscriptions.remove(keyOf(request), sub);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Failed to open SSE stream " + uri + ": " + cause, cause);
+        }
+
+        InputStream body = response.body();
+        sub.attachSseBody(body);
+        if (response.statusCode() != 200) {
+            sub.ended(new IllegalStateException("SSE stream answered HTTP " + response.statusCode()));
+            closeQuietly(body);
+            return response.statusCode();
+        }
+        executor.submit(() -> readEvents(body, sub));
+        return 200;
+    }
+
+    /**
+     * Parse the {@code text/event-stream} format: {@code data:} lines are
+     * joined with newlines and dispatched at a blank line, with the last
+     * {@code event:} name; comments and {@code id:}/{@code retry:} fields are ignored.
+     */
+    private static void readEvents(InputStream body, Subscription sub) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            StringBuilder data = null;
+            String event = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (data != null) {
+                        sub.offer(data.toString(), event != null ? event : "message");
+                    }
+                    data = null;
+                    event = null;
+                    continue;
+                }
+                if (line.startsWith(":")) continue;
+                int colon = line.indexOf(':');
+                String field = colon < 0 ? line : line.substring(0, colon);
+                String value = colon < 0 ? "" : line.substring(colon + 1);
+                if (value.startsWith(" ")) value = value.substring(1);
+                switch (field) {
+                    case "data" -> data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+                    case "event" -> event = value;
+                    default -> { /* id, retry */ }
+                }
+            }
+            sub.ended(null);
+        } catch (IOException e) {
+            sub.ended(e);
+        }
+    }
+
+    /** Receives WebSocket frames; partial text frames are joined into one message */
+    private static final class Listener implements WebSocket.Listener {
+        private final Subscription sub;
+        private final StringBuilder partial = new StringBuilder();
+
+        Listener(Subscription sub) {
+            this.sub = sub;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                sub.offer(partial.toString(), "text");
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            sub.offer(Base64.getEncoder().encodeToString(bytes), last ? "binary" : "binary-partial");
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            sub.ended(null);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            sub.ended(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+        }
+    }
+
+    // ---- Internal ----
+
+    /** The request's proxy route (e.g. a fault injection route) applies to streams too */
+    private HttpClient clientFor(ProtocolRequest request) {
+        if (request.getProxyHost() == null) {
+            return httpClient;
+        }
+        return proxiedClients.computeIfAbsent(request.getProxyHost() + ":" + request.getProxyPort(),
+                k -> newHttpClient(ProxySelector.of(new InetSocketAddress(request.getProxyHost(), request.getProxyPort()))));
+    }
+
+    private HttpClient newHttpClient(ProxySelector proxy) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs));
+        if (proxy != null) {
+            builder.proxy(proxy);
+        }
+        return builder.build();
+    }
+
+    private URI resolve(ProtocolRequest request, Subscription.Transport transport) {
+        String endpoint = request.getEndpoint();
+        String url;
+        if (endpoint.contains("://")) {
+            url = endpoint;
+        } else {
+            String base = request.getBaseUrl() != null ? request.getBaseUrl() : baseUrl;
+            url = base.replaceAll("/+$", "") + (endpoint.startsWith("/") ? "" : "/") + endpoint;
+        }
+        if (!request.getQueryParams().isEmpty()) {
+            url += (url.contains("?") ? "&" : "?") + request.getQueryParams().entrySet().stream()
+                    .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+                    .collect(Collectors.joining("&"));
+        }
+        return URI.create(withScheme(url, transport));
+    }
+
+    /** Use the scheme the transport needs, keeping TLS: {@code http ↔ ws}, {@code https ↔ wss} */
+    private static String withScheme(String url, Subscription.Transport transport) {
+        int sep = url.indexOf("://");
+        String scheme = url.substring(0, sep).toLowerCase();
+        boolean secure = scheme.equals("https") || scheme.equals("wss");
+        String wanted = transport == Subscription.Transport.WEBSOCKET
+                ? (secure ? "wss" : "ws")
+                : (secure ? "https" : "http");
+        return wanted + url.substring(sep);
+    }
+
+    private static Subscription.Transport transportOf(ProtocolRequest request) {
+        Object transport = request.getExtras().get(TRANSPORT);
+        if (transport == null) {
+            String endpoint = request.getEndpoint().toLowerCase();
+            return endpoint.startsWith("http") ? Subscription.Transport.SSE : Subscription.Transport.WEBSOCKET;
+        }
+        return Subscription.Transport.valueOf(transport.toString().toUpperCase());
+    }
+
+    private static String nameOf(ProtocolRequest request) {
+        Object name = request.getExtras().get(SUBSCRIPTION);
+        return name != null ? name.toString() : request.getEndpoint();
+    }
+
+    /** Trace id of the request's owner; empty for untraced requests, which share one namespace */
+    private static String ownerOf(ProtocolRequest request) {
+        return request.getTraceContext() != null ? request.getTraceContext().traceId() : "";
+    }
+
+    /** Subscription key: the subscription name within its owner's namespace */
+    private static String keyOf(ProtocolRequest request) {
+        return ownerOf(request) + "/" + nameOf(request);
+    }
+
+    /** The request's own {@code traceparent}, or a new span of its trace; null if untraced */
+    private static String traceparentFor(ProtocolRequest request) {
+        return request.getHeaders().entrySet().stream()
+                .filter(e -> e.getKey().equalsIgnoreCase("traceparent"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseGet(() -> request.getTraceContext() != null ? request.getTraceContext().newTraceparent() : null);
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // the stream is abandoned anyway
+        }
+    }
+
+    @Override
+    public String getProtocolName() {
+        return "STREAM";
+    }
+
+    @Override
+    public void close() {
+        subscriptions.values().forEach(sub -> {
+            log.info("Closing stream subscription {}", sub);
+            sub.close();
+        });
+        subscriptions.clear();
+        // Subscriptions are closed, so nothing in flight is worth waiting for
+        proxiedClients.values().forEach(HttpClient::shutdownNow);
+        proxiedClients.clear();
+        if (httpClient != null) {
+            httpClient.shutdownNow();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        log.info("Stream client closed.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.framework.protocols.stream;
+
+/**
+ * One message received on a {@link Subscription}: a WebSocket text frame
+ * (binary frames are Base64-encoded) or a Server-Sent Event.
+ *
+ * @param sequence         1-based position in the order of arrival
+ * @param data             message payload
+ * @param event            SSE event type ({@code message} for unnamed events); for WebSocket
+ *                         {@code text}, {@code binary}, or {@code binary-partial} for a
+ *                         binary frame delivered before its last fragment
+ * @param receivedAtMillis wall-clock arrival time, comparable with timestamps embedded by the server
+ * @param receivedNanos    monotonic arrival time, for rates
+ */
+public record StreamMessage(long sequence, String data, String event, long receivedAtMillis, long receivedNanos) {
+}
@@ -0,0 +1,186 @@
+package com.framework.protocols.stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.core.metrics.LatencyHistogram;
+import com.framework.core.metrics.LatencyStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A long-lived WebSocket or SSE connection opened by {@link StreamClient}.
+ * <p>
+ * Incoming messages are buffered in a bounded queue; when the scenario
+ * falls behind, the oldest buffered message is dropped and counted, so a
+ * fast stream can never exhaust the heap. Messages the scenario has taken
+ * off the queue (via {@link #await}) are kept for rate, latency and content
+ * assertions.
+ */
+public class Subscription implements Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public enum Transport { WEBSOCKET, SSE }
+
+    private final String name;
+    private final String url;
+    private final Transport transport;
+    private final BlockingQueue<StreamMessage> queue;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final CountDownLatch ended = new CountDownLatch(1);
+
+    /** Scenario thread only */
+    private final List<StreamMessage> consumed = new ArrayList<>();
+
+    private volatile WebSocket webSocket;
+    private volatile Closeable sseBody;
+    private volatile Throwable failure;
+    private volatile boolean closed;
+
+    Subscription(String name, String url, Transport transport, int capacity) {
+        this.name = name;
+        this.url = url;
+        this.transport = transport;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public String name()            { return name; }
+    public String url()             { return url; }
+    public Transport transport()    { return transport; }
+    public long receivedCount()     { return sequence.get(); }
+    public long droppedCount()      { return dropped.sum(); }
+    public Throwable failure()      { return failure; }
+    public boolean isOpen()         { return !closed && ended.getCount() > 0; }
+
+    /**
+     * Take up to {@code count} messages, waiting at most {@code timeout}
+     * for them to arrive. Returns early if the stream ends.
+     *
+     * @return the messages taken, possibly fewer than requested
+     */
+    public List<StreamMessage> await(int count, Duration timeout) throws InterruptedException {
+        List<StreamMessage> batch = new ArrayList<>(count);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (batch.size() < count) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+            if (queue.isEmpty() && !isOpen()) {
+                queue.drainTo(batch, count - batch.size());
+                break;
+            }
+            // Poll in short slices so a stream that ends is noticed promptly
+            StreamMessage message = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(50)), TimeUnit.NANOSECONDS);
+            if (message != null) {
+                batch.add(message);
+                queue.drainTo(batch, count - batch.size());
+            }
+        }
+        consumed.addAll(batch);
+        return batch;
+    }
+
+    /** All messages taken by {@link #await} so far */
+    public List<StreamMessage> consumed() {
+        return Collections.unmodifiableList(consumed);
+    }
+
+    /**
+     * Messages per second over the consumed messages, from the first to the last arrival.
+     */
+    public double messageRate() {
+        if (consumed.size() < 2) return 0;
+        long spanNanos = consumed.get(consumed.size() - 1).receivedNanos() - consumed.get(0).receivedNanos();
+        return spanNanos > 0 ? (consumed.size() - 1) * 1e9 / spanNanos : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * End-to-end latency of the consumed messages: arrival time minus the
+     * epoch-millisecond timestamp the server embedded in the JSON field
+     * {@code timestampField}. Messages without it are skipped.
+     */
+    public LatencyStats endToEndLatency(String timestampField) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (StreamMessage message : consumed) {
+            try {
+                JsonNode ts = MAPPER.readTree(message.data()).path(timestampField);
+                if (ts.canConvertToLong()) {
+                    histogram.recordMicros(Math.max(0, message.receivedAtMillis() - ts.asLong()) * 1_000);
+                }
+            } catch (IOException ignored) {
+                // not JSON; no embedded timestamp
+            }
+        }
+        return histogram.stats();
+    }
+
+    /**
+     * Send a text message (WebSocket only).
+     */
+    public void send(String text) {
+        if (transport != Transport.WEBSOCKET) {
+            throw new UnsupportedOperationException("Subscription '" + name + "' is " + transport + "; only WebSocket can send");
+        }
+        webSocket.sendText(text, true).join();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        if (webSocket != null) {
+            WebSocket ws = webSocket;
+            ws.sendClose(WebSocket.NORMAL_CLOSURE, "bye").whenComplete((r, e) -> ws.abort());
+        }
+        if (sseBody != null) {
+            try {
+                sseBody.close();
+            } catch (IOException ignored) {
+                // closing anyway
+            }
+        }
+        ended.countDown();
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription{" + name + ", " + transport + " " + url + ", received=" + receivedCount() +
+                ", dropped=" + droppedCount() + ", buffered=" + queue.size() + (isOpen() ? "" : ", ended") +
+                (failure != null ? ", failure=" + failure : "") + '}';
+    }
+
+    // ---- Fed by the transport ----
+
+    void attachWebSocket(WebSocket webSocket) {
+        this.webSocket = webSocket;
+    }
+
+    void attachSseBody(Closeable sseBody) {
+        this.sseBody = sseBody;
+    }
+
+    void offer(String data, String event) {
+        StreamMessage message = new StreamMessage(sequence.incrementAndGet(), data, event,
+                System.currentTimeMillis(), System.nanoTime());
+        while (!queue.offer(message)) {
+            if (queue.poll() != null) dropped.increment();
+        }
+    }
+
+    void ended(Throwable error) {
+        if (error != null && !closed) failure = error;
+        ended.countDown();
+    }
+}
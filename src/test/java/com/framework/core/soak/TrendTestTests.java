@@ -0,0 +1,56 @@
+package com.framework.core.soak;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendTestTests {
+
+    private static final double Z = 2.33;
+    private static final double MIN_GROWTH = 10.0;
+
+    @Test
+    void flatNoisySeriesIsNotGrowing() {
+        double[] values = {100, 103, 98, 101, 99, 102, 100, 97, 103, 100, 98, 101};
+
+        TrendTest.Trend trend = TrendTest.analyse("heap", minutes(values.length), values, Z, MIN_GROWTH);
+
+        assertThat(trend.samples()).isEqualTo(values.length);
+        assertThat(trend.growing()).isFalse();
+        assertThat(Math.abs(trend.z())).isLessThan(Z);
+    }
+
+    @Test
+    void linearlyGrowingSeriesIsGrowing() {
+        double[] values = new double[12];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + 5 * i;
+        }
+
+        TrendTest.Trend trend = TrendTest.analyse("heap", minutes(values.length), values, Z, MIN_GROWTH);
+
+        assertThat(trend.growing()).isTrue();
+        assertThat(trend.z()).isGreaterThan(Z);
+        assertThat(trend.growthPercent()).isGreaterThan(MIN_GROWTH);
+        assertThat(trend.slopePerHour()).isEqualTo(300.0);
+    }
+
+    @Test
+    void fewerThanFourPointsAreNotTested() {
+        double[] values = {100, 200, -1, 300};
+
+        TrendTest.Trend trend = TrendTest.analyse("heap", minutes(values.length), values, Z, MIN_GROWTH);
+
+        assertThat(trend.samples()).isEqualTo(3);
+        assertThat(trend.growing()).isFalse();
+        assertThat(trend.slopePerHour()).isNaN();
+    }
+
+    private static long[] minutes(int n) {
+        long[] times = new long[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = i * 60_000L;
+        }
+        return times;
+    }
+}
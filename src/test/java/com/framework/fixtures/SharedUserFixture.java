@@ -0,0 +1,41 @@
+package com.framework.fixtures;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.context.FeatureContext;
+import com.framework.core.context.FeatureSetup;
+import com.framework.core.context.FeatureTeardown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feature setup for features tagged {@code @shared-user}: looks up the
+ * test user once per feature instead of in every scenario's Background,
+ * and publishes {@code userId} and {@code username}.
+ */
+@Component
+public class SharedUserFixture {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedUserFixture.class);
+
+    @FeatureSetup("@shared-user")
+    public void loadUser(FeatureContext feature) {
+        ProtocolResponse response = feature.execute("REST", new ProtocolRequest()
+                .method("GET")
+                .endpoint("/users/1"));
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Could not load the shared test user: " + response.getStatusLine());
+        }
+        JsonNode user = response.getBodyAsJson();
+        feature.put("userId", user.path("id").asText());
+        feature.put("username", user.path("username").asText());
+    }
+
+    @FeatureTeardown("@shared-user")
+    public void releaseUser(FeatureContext feature) {
+        // The sample API is read-only; a real fixture would delete what it created here
+        log.info("Releasing shared user {} of {}", feature.<String>get("userId"), feature.featureUri());
+    }
+}
@@ -1,9 +1,13 @@
 package com.framework.hooks;
 
+import com.framework.core.context.FeatureContexts;
 import com.framework.core.context.TestContext;
+import com.framework.core.incremental.IncrementalRun;
+import com.framework.core.jfr.ScenarioEvent;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
+import org.opentest4j.TestAbortedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,21 +16,50 @@ import org.slf4j.LoggerFactory;
  * <p>
  * TestContext is injected by Spring's DI container — each scenario
  * gets a fresh instance automatically via {@code @ScenarioScope}.
+ * In an incremental run, scenarios that need not run are skipped first;
+ * then the feature's {@code @FeatureSetup} results are attached to the
+ * context before the other hooks run. Every scenario, hooks included, is
+ * emitted as a {@link ScenarioEvent} to JDK Flight Recorder.
  */
 public class Hooks {
 
     private static final Logger log = LoggerFactory.getLogger(Hooks.class);
 
     private final TestContext context;
+    private final FeatureContexts featureContexts;
+    private boolean enteredFeature;
+    private ScenarioEvent scenarioEvent;
 
-    public Hooks(TestContext context) {
+    public Hooks(TestContext context, FeatureContexts featureContexts) {
         this.context = context;
+        this.featureContexts = featureContexts;
+    }
+
+    @Before(order = -1)
+    public void startScenarioEvent() {
+        scenarioEvent = ScenarioEvent.start();
+    }
+
+    @Before(order = 0)
+    public void skipUnchanged(Scenario scenario) {
+        String reason = IncrementalRun.global().skipReason(scenario.getUri(), scenario.getLine());
+        if (reason != null) {
+            // Reported as skipped by Cucumber
+            throw new TestAbortedException("Incremental run: " + reason);
+        }
+    }
+
+    @Before(order = 1)
+    public void enterFeature(Scenario scenario) {
+        enteredFeature = true;
+        context.setFeature(featureContexts.enter(scenario.getUri().toString(), scenario.getSourceTagNames()));
     }
 
     @Before
     public void beforeScenario(Scenario scenario) {
         log.info("========== SCENARIO START: {} ==========", scenario.getName());
         log.info("Tags: {}", scenario.getSourceTagNames());
+        log.info("Trace id: {}", context.getTrace().traceId());
     }
 
     @After
@@ -39,6 +72,11 @@ public class Hooks {
             }
         }
 
+        // Attach the scenario's trace id and per-request server timings
+        if (context.getTrace().requestCount() > 0) {
+            scenario.attach(context.getTrace().summary(), "text/plain", "Request trace");
+        }
+
         // Log result
         log.info("========== SCENARIO END: {} — {} ==========",
                 scenario.getName(), scenario.getStatus());
@@ -46,4 +84,22 @@ public class Hooks {
         // Cleanup
         context.cleanup();
     }
+
+    /** Runs after the other after-hooks, even if the feature's setup failed */
+    @After(order = 0)
+    public void leaveFeature(Scenario scenario) {
+        if (enteredFeature) {
+            featureContexts.leave(scenario.getUri().toString());
+        }
+    }
+
+    /** Runs last, so the event spans all other hooks */
+    @After(order = -1)
+    public void finishScenarioEvent(Scenario scenario) {
+        if (scenarioEvent != null) {
+            scenarioEvent.finish(scenario.getName(), scenario.getUri().toString(), scenario.getLine(),
+                    String.join(" ", scenario.getSourceTagNames()), scenario.getStatus().name(),
+                    context.getTrace().traceId());
+        }
+    }
 }
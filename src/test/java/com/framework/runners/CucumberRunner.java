@@ -12,12 +12,16 @@ import static io.cucumber.junit.platform.engine.Constants.*;
  * <p>
  * Configuration can be overridden in {@code cucumber.properties}
  * or via Maven surefire {@code configurationParameters}.
+ * <p>
+ * Reports are written as an NDJSON event stream during the run; the HTML
+ * and JSON reports are generated from it afterwards by
+ * {@link com.framework.core.report.ReportGenerator}.
  */
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.framework.stepdefs,com.framework.hooks,com.framework.config")
-@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty,html:target/cucumber-reports/cucumber.html,json:target/cucumber-reports/cucumber.json")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty,com.framework.core.report.NdjsonEventPlugin:target/cucumber-reports/events.ndjson,com.framework.core.report.LatencyBaselinePlugin,com.framework.core.report.ComparisonReportPlugin,com.framework.core.incremental.IncrementalRunPlugin,com.framework.core.jfr.FlightRecorderPlugin")
 @ConfigurationParameter(key = FEATURES_PROPERTY_NAME, value = "src/test/resources/features")
 public class CucumberRunner {
     // This class is intentionally empty.
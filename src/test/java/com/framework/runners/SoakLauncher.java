@@ -0,0 +1,113 @@
+package com.framework.runners;
+
+import com.framework.core.config.ConfigManager;
+import com.framework.core.soak.ResourceSampler;
+import com.framework.core.soak.SoakReport;
+import com.framework.core.soak.TrendTest;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+
+/**
+ * Soak mode: runs the scenarios tagged {@code soak.tags} over and over in
+ * one JVM — for {@code soak.duration-minutes} or {@code soak.iterations} —
+ * while a {@link ResourceSampler} records heap, threads, open files,
+ * sockets and request latency. At the end each series is checked for
+ * steady growth and a report is written next to the time series.
+ * <p>
+ * Every iteration is a full Cucumber run through the JUnit Platform
+ * launcher; the Spring context, the protocol clients and all JVM-wide
+ * state live on across iterations, exactly as in a long regular run, so
+ * anything they leak accumulates and shows up as a trend.
+ * <p>
+ * Run with {@code mvn test-compile exec:java@soak} (see the README). Exits
+ * with 1 if a scenario failed or, with {@code soak.fail-on-leak}, a
+ * resource kept growing.
+ */
+public final class SoakLauncher {
+
+    private static final Logger log = LoggerFactory.getLogger(SoakLauncher.class);
+
+    private SoakLauncher() {
+    }
+
+    public static void main(String[] args) {
+        ConfigManager config = new ConfigManager();
+        String tags = config.getString("soak.tags", "@soak");
+        Duration duration = Duration.ofMinutes(config.getLong("soak.duration-minutes", 60));
+        int maxIterations = config.getInt("soak.iterations", 0);
+        Duration interval = Duration.ofSeconds(config.getLong("soak.sample-interval-seconds", 30));
+        Path outputDir = Path.of(config.getString("soak.output-dir", "target/soak"));
+
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClasspathResource("features"))
+                .filters(includeEngines("cucumber"))
+                .configurationParameter("cucumber.filter.tags", tags)
+                // The regular run's report and gate plugins would rewrite their output every iteration
+                .configurationParameter("cucumber.plugin", config.getString("soak.plugins", "summary"))
+                .build();
+        Launcher launcher = LauncherFactory.create();
+
+        log.info("Soak run of '{}' for {} min{} — sampling every {} s into {}", tags, duration.toMinutes(),
+                maxIterations > 0 ? " or " + maxIterations + " iteration(s)" : "", interval.toSeconds(), outputDir);
+        AtomicInteger iterations = new AtomicInteger();
+        long failed = 0;
+        long deadline = System.nanoTime() + duration.toNanos();
+        SoakReport report;
+        try (ResourceSampler sampler = new ResourceSampler(outputDir.resolve("samples.csv"),
+                config.getBoolean("soak.force-gc", true))) {
+            sampler.sample(0);
+            sampler.start(interval, iterations::get);
+            while (System.nanoTime() < deadline && (maxIterations <= 0 || iterations.get() < maxIterations)) {
+                SummaryGeneratingListener listener = new SummaryGeneratingListener();
+                launcher.execute(request, listener);
+                TestExecutionSummary summary = listener.getSummary();
+                if (summary.getTestsFoundCount() == 0) {
+                    throw new IllegalStateException("No scenarios match soak.tags '" + tags + "'");
+                }
+                failed += summary.getTestsFailedCount();
+                int done = iterations.incrementAndGet();
+                log.info("Soak iteration {}: {} scenario(s), {} failed", done,
+                        summary.getTestsFoundCount(), summary.getTestsFailedCount());
+            }
+            sampler.sample(iterations.get());
+            report = SoakReport.analyse(sampler.samples(), config.getInt("soak.warmup-samples", 2),
+                    iterations.get(), failed, config.getDouble("soak.trend-z", 2.33),
+                    config.getDouble("soak.min-growth-percent", 10));
+        }
+
+        Path reportFile = outputDir.resolve("soak-report.txt");
+        String text = report.format();
+        try {
+            Files.writeString(reportFile, text, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write soak report " + reportFile, e);
+        }
+        System.out.println(text);
+        System.out.println("Time series: " + outputDir.resolve("samples.csv") + ", report: " + reportFile);
+
+        boolean leaking = !report.growing().isEmpty() && config.getBoolean("soak.fail-on-leak", true);
+        if (leaking) {
+            System.out.println("Growing: " + report.growing().stream().map(TrendTest.Trend::metric).toList());
+        }
+        if (leaking || failed > 0) {
+            System.exit(1);
+        }
+    }
+}
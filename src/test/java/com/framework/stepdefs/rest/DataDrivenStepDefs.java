@@ -0,0 +1,173 @@
+package com.framework.stepdefs.rest;
+
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.context.TestContext;
+import com.framework.core.data.DataDrivenExecutor;
+import com.framework.core.data.DataDrivenExecutor.RowCheck;
+import com.framework.core.data.DataDrivenResult;
+import com.framework.core.data.DataRow;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for streaming data-driven execution.
+ * <p>
+ * Instead of expanding a Scenario Outline into one scenario per example,
+ * these steps stream a CSV/JSONL file and send one request per row with
+ * bounded concurrency. Per-row assertions are declared up front; results
+ * are reported as aggregates plus the first few failures.
+ *
+ * <pre>
+ * Given data-driven concurrency is 16
+ * And each data-driven response should have status code 201
+ * And each data-driven response should match:
+ *   | $.status  | created    |
+ *   | $.orderId | {orderId}  |
+ * When for each row in "data/orders.jsonl" I send a POST request to "/orders"
+ * Then the data-driven run should have no failures
+ * </pre>
+ */
+public class DataDrivenStepDefs {
+
+    private static final Logger log = LoggerFactory.getLogger(DataDrivenStepDefs.class);
+
+    private static final String CONCURRENCY_KEY = "data-driven.concurrency";
+    private static final String CHECKS_KEY = "data-driven.checks";
+    private static final String RESULT_KEY = "data-driven.result";
+
+    /** Methods that send the row as the request body; the others only use its fields in the endpoint */
+    private static final Set<String> BODY_METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private final TestContext context;
+
+    public DataDrivenStepDefs(TestContext context) {
+        this.context = context;
+    }
+
+    // ===================================================================
+    // GIVEN — Setup
+    // ===================================================================
+
+    @Given("data-driven concurrency is {int}")
+    public void setConcurrency(int concurrency) {
+        context.set(CONCURRENCY_KEY, concurrency);
+    }
+
+    @Given("each data-driven response should have status code {int}")
+    public void expectStatus(int expectedStatus) {
+        checks().add((row, response) -> response.getStatusCode() == expectedStatus ? null
+                : "expected status " + expectedStatus + " but was " + response.getStatusCode());
+    }
+
+    @Given("each data-driven response should match:")
+    public void expectJsonPaths(DataTable table) {
+        Map<String, String> expectations = table.asMap(String.class, String.class);
+        checks().add((row, response) -> {
+            DocumentContext doc = JsonPath.parse(response.getBody());
+            for (Map.Entry<String, String> e : expectations.entrySet()) {
+                String expected = row.resolve(e.getValue());
+                String actual = String.valueOf((Object) doc.read(e.getKey()));
+                if (!Objects.equals(expected, actual)) {
+                    return "JSON path '" + e.getKey() + "' expected '" + expected + "' but was '" + actual + "'";
+                }
+            }
+            return null;
+        });
+    }
+
+    // ===================================================================
+    // WHEN — Execute
+    // ===================================================================
+
+    @When("for each row in {string} I send a {word} request to {string}")
+    public void sendForEachRow(String dataFile, String method, String endpoint) {
+        ProtocolRequest template = context.getCurrentRequest();
+        int concurrency = context.get(CONCURRENCY_KEY,
+                context.getConfig().getInt("data-driven.concurrency", 4));
+        int maxFailures = context.getConfig().getInt("data-driven.max-reported-failures", 10);
+
+        DataDrivenExecutor executor = new DataDrivenExecutor(
+                context.getClientFactory().rest(), concurrency, maxFailures);
+        DataDrivenResult result = executor.run(dataFile,
+                row -> requestFor(template, row, method, endpoint),
+                checks());
+
+        context.set(RESULT_KEY, result);
+        log.info("Data-driven summary for {}:\n{}", dataFile, result.summary());
+    }
+
+    // ===================================================================
+    // THEN — Assertions
+    // ===================================================================
+
+    @Then("the data-driven run should have no failures")
+    public void verifyNoFailures() {
+        DataDrivenResult result = result();
+        assertThat(result.getFailed())
+                .as("Data-driven failures:%n%s", result.summary())
+                .isZero();
+    }
+
+    @Then("the data-driven run should have processed {long} rows")
+    public void verifyRowCount(long expectedRows) {
+        assertThat(result().getTotal())
+                .as("Data-driven rows processed")
+                .isEqualTo(expectedRows);
+    }
+
+    @Then("the data-driven p95 latency should be less than {long} ms")
+    public void verifyP95(long maxMs) {
+        DataDrivenResult result = result();
+        assertThat(result.getLatencyStats().p95Ms())
+                .as("Data-driven p95 latency:%n%s", result.summary())
+                .isLessThan(maxMs);
+    }
+
+    // ---- Internal ----
+
+    private List<RowCheck> checks() {
+        List<RowCheck> checks = context.get(CHECKS_KEY);
+        if (checks == null) {
+            checks = new ArrayList<>();
+            context.set(CHECKS_KEY, checks);
+        }
+        return checks;
+    }
+
+    private DataDrivenResult result() {
+        DataDrivenResult result = context.get(RESULT_KEY);
+        if (result == null) {
+            throw new IllegalStateException("No data-driven run has been executed in this scenario");
+        }
+        return result;
+    }
+
+    private static ProtocolRequest requestFor(ProtocolRequest template, DataRow row,
+                                              String method, String endpoint) {
+        ProtocolRequest request = template.copy()
+                .method(method)
+                .endpoint(row.resolve(endpoint));
+        if (BODY_METHODS.contains(method.toUpperCase(Locale.ROOT))) {
+            request.body(row.body());
+            if (request.getContentType() == null) {
+                request.contentType("application/json");
+            }
+        }
+        return request;
+    }
+}
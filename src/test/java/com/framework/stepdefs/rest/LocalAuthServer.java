@@ -0,0 +1,136 @@
+package com.framework.stepdefs.rest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process OAuth token endpoint and protected resource, so the
+ * shared token cache can be exercised without an identity provider.
+ * <p>
+ * Every client name gets its own state, so scenarios using different
+ * names do not see each other's counts:
+ * <ul>
+ *   <li>{@code POST /token/<client>} — issues {@code <client>-<n>} (or
+ *       answers 500 while failing); every request is counted</li>
+ *   <li>{@code GET /protected/<client>} — 200 for an issued, unrevoked
+ *       bearer token of the client, otherwise 401</li>
+ * </ul>
+ */
+final class LocalAuthServer {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalAuthServer.class);
+
+    private static volatile LocalAuthServer instance;
+
+    private final HttpServer server;
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+
+    /** Token endpoint state of one client */
+    static final class Client {
+        final AtomicInteger tokenRequests = new AtomicInteger();
+        final Set<String> valid = ConcurrentHashMap.newKeySet();
+        volatile long expiresInSeconds = 3600;
+        volatile long delayMs;
+        volatile boolean failing;
+    }
+
+    private LocalAuthServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/token/", this::token);
+        server.createContext("/protected/", this::resource);
+        server.start();
+        log.info("Local OAuth server listening on {}", baseUrl());
+    }
+
+    /** The JVM-wide server, started on first use */
+    static LocalAuthServer get() throws IOException {
+        if (instance == null) {
+            synchronized (LocalAuthServer.class) {
+                if (instance == null) {
+                    instance = new LocalAuthServer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    String tokenUrl(String clientName) {
+        return baseUrl() + "/token/" + clientName;
+    }
+
+    Client client(String clientName) {
+        return clients.computeIfAbsent(clientName, n -> new Client());
+    }
+
+    /** Make every token issued to the client so far invalid */
+    void revoke(String clientName) {
+        client(clientName).valid.clear();
+    }
+
+    // ---- Handlers ----
+
+    private void token(HttpExchange exchange) throws IOException {
+        String name = lastSegment(exchange);
+        Client client = client(name);
+        int n = client.tokenRequests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        if (client.delayMs > 0) {
+            try {
+                Thread.sleep(client.delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (client.failing) {
+            respond(exchange, 500, "{\"error\":\"temporarily_unavailable\"}");
+            return;
+        }
+        String token = name + "-" + n;
+        client.valid.add(token);
+        respond(exchange, 200, "{\"access_token\":\"" + token + "\",\"token_type\":\"Bearer\",\"expires_in\":"
+                + client.expiresInSeconds + "}");
+    }
+
+    private void resource(HttpExchange exchange) throws IOException {
+        String name = lastSegment(exchange);
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String token = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        if (token == null || !client(name).valid.contains(token)) {
+            respond(exchange, 401, "{\"error\":\"invalid_token\"}");
+        } else {
+            respond(exchange, 200, "{\"client\":\"" + name + "\",\"token\":\"" + token + "\"}");
+        }
+    }
+
+    private static String lastSegment(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.framework.stepdefs.rest;
+
+import com.framework.core.context.TestContext;
+import com.framework.core.network.NetworkConditions;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Steps that degrade the network between the framework and the API, using
+ * an in-process {@link com.framework.core.network.FaultInjectionProxy} route
+ * opened for the scenario.
+ *
+ * <pre>
+ * Given the network adds 200 ms latency and limits bandwidth to 1 Mbps
+ * And I set the request timeout to 1000 ms
+ * When I send a GET request to "/posts" expecting a failure
+ * Then the request should have failed with a timeout
+ * </pre>
+ */
+public class NetworkFaultStepDefs {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkFaultStepDefs.class);
+
+    private static final String FAILURE_KEY = "network.failure";
+    private static final String FAILURE_MS_KEY = "network.failure-ms";
+
+    private final TestContext context;
+
+    public NetworkFaultStepDefs(TestContext context) {
+        this.context = context;
+    }
+
+    // ===================================================================
+    // GIVEN — Network conditions
+    // ===================================================================
+
+    @Given("the network adds {int} ms latency")
+    public void addLatency(int latencyMs) {
+        context.setNetworkConditions(context.getNetworkConditions().withLatencyMs(latencyMs));
+    }
+
+    @Given("the network limits bandwidth to {double} Mbps")
+    public void limitBandwidth(double mbps) {
+        context.setNetworkConditions(context.getNetworkConditions().withBandwidth(NetworkConditions.mbps(mbps)));
+    }
+
+    @Given("the network adds {int} ms latency and limits bandwidth to {double} Mbps")
+    public void addLatencyAndLimitBandwidth(int latencyMs, double mbps) {
+        context.setNetworkConditions(context.getNetworkConditions()
+                .withLatencyMs(latencyMs)
+                .withBandwidth(NetworkConditions.mbps(mbps)));
+    }
+
+    @Given("the network resets connections after {int} response bytes")
+    public void resetAfter(int bytes) {
+        context.setNetworkConditions(context.getNetworkConditions().withResetAfterBytes(bytes));
+    }
+
+    @Given("the network cuts responses off after {int} bytes")
+    public void cutOffAfter(int bytes) {
+        context.setNetworkConditions(context.getNetworkConditions().withCloseAfterBytes(bytes));
+    }
+
+    @Given("the network is healthy")
+    public void healthy() {
+        context.setNetworkConditions(NetworkConditions.NONE);
+    }
+
+    // ===================================================================
+    // WHEN — Execute, expecting the network to break the request
+    // ===================================================================
+
+    @When("I send a {word} request to {string} expecting a failure")
+    public void sendExpectingFailure(String method, String endpoint) {
+        context.getCurrentRequest()
+                .method(method)
+                .endpoint(context.resolve(endpoint));
+        long start = System.nanoTime();
+        try {
+            context.executeRest();
+        } catch (Exception e) {
+            // REST Assured rethrows I/O exceptions unchecked, so catch broadly
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            context.set(FAILURE_KEY, e);
+            context.set(FAILURE_MS_KEY, elapsedMs);
+            log.info("Request failed as expected after {} ms: {}", elapsedMs, e.toString());
+            return;
+        }
+        throw new AssertionError("Expected " + method + " " + endpoint + " to fail under " +
+                context.getNetworkConditions() + " but got status " + context.getLastResponse().getStatusCode());
+    }
+
+    // ===================================================================
+    // THEN — Failure assertions
+    // ===================================================================
+
+    /**
+     * @param kind {@code timeout}, {@code reset} or {@code disconnect}
+     *             (any other I/O failure, e.g. a truncated response)
+     */
+    @Then("the request should have failed with a {word}")
+    public void failedWith(String kind) {
+        Throwable failure = context.get(FAILURE_KEY);
+        assertThat(failure).as("Request failure").isNotNull();
+        assertThat(classify(failure))
+                .as("Kind of failure: %s", failure)
+                .isEqualTo(kind.toLowerCase());
+    }
+
+    @Then("the request should have failed within {long} ms")
+    public void failedWithin(long maxMs) {
+        Long elapsedMs = context.get(FAILURE_MS_KEY);
+        assertThat(elapsedMs).as("Request failure").isNotNull();
+        assertThat(elapsedMs)
+                .as("Time until the request failed (ms)")
+                .isLessThan(maxMs);
+    }
+
+    private static String classify(Throwable failure) {
+        boolean io = false;
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException) return "timeout";
+            if (t.getMessage() != null && t.getMessage().toLowerCase().contains("connection reset")) return "reset";
+            io |= t instanceof IOException;
+        }
+        return io ? "disconnect" : "other";
+    }
+}
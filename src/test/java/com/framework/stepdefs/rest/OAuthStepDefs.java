@@ -0,0 +1,170 @@
+package com.framework.stepdefs.rest;
+
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.context.TestContext;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Steps that exercise the shared OAuth token cache against the in-process
+ * {@link LocalAuthServer}: single-flight fetching, early refresh and the
+ * refresh-and-retry after a 401.
+ *
+ * <pre>
+ * Given a local OAuth server issues tokens for client "single-flight"
+ * And the local OAuth server takes 300 ms to issue a token
+ * When 20 concurrent GET requests are sent to the protected resource
+ * Then all concurrent responses should have status code 200
+ * And the local OAuth server should have received 1 token request(s)
+ * </pre>
+ * Token endpoints of the local server are registered as system properties
+ * ({@code auth.clients.<name>.token-url}), which {@code ConfigManager}
+ * reads before the YAML; use a client name of its own per scenario.
+ */
+public class OAuthStepDefs {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuthStepDefs.class);
+
+    private static final String CLIENT_KEY = "oauth.local-client";
+    private static final String STATUSES_KEY = "oauth.concurrent-statuses";
+
+    private final TestContext context;
+
+    public OAuthStepDefs(TestContext context) {
+        this.context = context;
+    }
+
+    // ===================================================================
+    // GIVEN — Local token endpoint
+    // ===================================================================
+
+    @Given("a local OAuth server issues tokens for client {string}")
+    public void localOAuthServer(String clientName) throws IOException {
+        localOAuthServer(clientName, 3600);
+    }
+
+    @Given("a local OAuth server issues tokens for client {string} valid for {int} seconds")
+    public void localOAuthServer(String clientName, int expiresInSeconds) throws IOException {
+        LocalAuthServer server = LocalAuthServer.get();
+        server.client(clientName).expiresInSeconds = expiresInSeconds;
+        System.setProperty("auth.clients." + clientName + ".token-url", server.tokenUrl(clientName));
+        context.set(CLIENT_KEY, clientName);
+        context.setBaseUrl(server.baseUrl());
+        context.getCurrentRequest().authClient(clientName, null);
+        log.info("OAuth client '{}' gets its tokens from {}", clientName, server.tokenUrl(clientName));
+    }
+
+    /** Must come before the client's first token request: client settings are cached from then on */
+    @Given("the OAuth client refreshes its token {int} seconds before expiry")
+    public void refreshSkew(int seconds) {
+        System.setProperty("auth.clients." + client() + ".refresh-skew-seconds", String.valueOf(seconds));
+    }
+
+    @Given("the local OAuth server takes {int} ms to issue a token")
+    public void tokenDelay(int delayMs) throws IOException {
+        LocalAuthServer.get().client(client()).delayMs = delayMs;
+    }
+
+    @Given("the local OAuth server fails token requests")
+    public void failTokenRequests() throws IOException {
+        LocalAuthServer.get().client(client()).failing = true;
+    }
+
+    @Given("the local OAuth server revokes the issued tokens")
+    public void revokeTokens() throws IOException {
+        LocalAuthServer.get().revoke(client());
+    }
+
+    // ===================================================================
+    // WHEN — Protected resource
+    // ===================================================================
+
+    @When("I send a GET request to the protected resource")
+    public void getProtectedResource() {
+        context.getCurrentRequest()
+                .method("GET")
+                .endpoint("/protected/" + client());
+        context.executeRest();
+    }
+
+    @When("I send {int} GET requests to the protected resource")
+    public void getProtectedResource(int count) {
+        for (int i = 0; i < count; i++) {
+            getProtectedResource();
+        }
+    }
+
+    /**
+     * Each request gets its token from the shared cache on its own virtual
+     * thread, so they all ask for it at about the same time.
+     */
+    @When("{int} concurrent GET requests are sent to the protected resource")
+    public void concurrentRequests(int count) throws InterruptedException, ExecutionException {
+        List<Future<ProtocolResponse>> pending = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                ProtocolRequest request = context.getCurrentRequest().copy()
+                        .method("GET")
+                        .endpoint("/protected/" + client());
+                pending.add(executor.submit(() -> context.getClientFactory().rest().execute(request)));
+            }
+        }
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<ProtocolResponse> future : pending) {
+            ProtocolResponse response = future.get();
+            statuses.add(response.getStatusCode());
+            context.setLastResponse(response);
+        }
+        context.set(STATUSES_KEY, statuses);
+    }
+
+    @When("I wait {int} ms")
+    public void waitFor(int ms) throws InterruptedException {
+        Thread.sleep(ms);
+    }
+
+    // ===================================================================
+    // THEN — Token requests
+    // ===================================================================
+
+    @Then("all concurrent responses should have status code {int}")
+    public void allConcurrentStatuses(int expected) {
+        List<Integer> statuses = context.get(STATUSES_KEY);
+        assertThat(statuses)
+                .as("Status codes of the concurrent requests")
+                .isNotEmpty()
+                .allMatch(status -> status == expected);
+    }
+
+    @Then("the local OAuth server should have received {int} token request(s)")
+    public void tokenRequests(int expected) throws IOException {
+        assertThat(LocalAuthServer.get().client(client()).tokenRequests.get())
+                .as("Token requests for OAuth client '%s'", client())
+                .isEqualTo(expected);
+    }
+
+    // ---- Internal ----
+
+    private String client() {
+        String client = context.get(CLIENT_KEY);
+        if (client == null) {
+            throw new IllegalStateException("No local OAuth client in this scenario — start with "
+                    + "'a local OAuth server issues tokens for client ...'");
+        }
+        return client;
+    }
+}
@@ -0,0 +1,115 @@
+package com.framework.stepdefs.rest;
+
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.context.TestContext;
+import com.framework.core.polling.PollResult;
+import com.framework.core.polling.Poller;
+import com.jayway.jsonpath.JsonPath;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * "Eventually" steps for asynchronous APIs.
+ * <p>
+ * The request is re-sent with jittered exponential backoff on the shared
+ * {@link Poller} until the condition holds or the time limit expires; no
+ * {@code Thread.sleep} loop holds the scenario's worker. The last response
+ * becomes the scenario's last response, so ordinary assertions can follow.
+ * {@code {key}} placeholders in the endpoint are filled from stored values.
+ *
+ * <pre>
+ * And I store the JSON path "$.id" as "jobId"
+ * When within 30 s, GET "/jobs/{jobId}" should have JSON path "$.status" equal "DONE"
+ * Then the resource should have become ready within 20000 ms
+ * </pre>
+ */
+public class PollingStepDefs {
+
+    private static final Logger log = LoggerFactory.getLogger(PollingStepDefs.class);
+
+    private static final String RESULT_KEY = "polling.result";
+
+    private final TestContext context;
+    private final Poller poller;
+
+    public PollingStepDefs(TestContext context, Poller poller) {
+        this.context = context;
+        this.poller = poller;
+    }
+
+    // ===================================================================
+    // WHEN — Poll
+    // ===================================================================
+
+    @When("within {int} s(econds), {word} {string} should have JSON path {string} equal {string}")
+    public void pollUntilJsonPath(int seconds, String method, String endpoint, String path, String expected) {
+        pollUntil(seconds, method, endpoint, response ->
+                expected.equals(String.valueOf((Object) JsonPath.read(response.getBody(), path))),
+                "JSON path '" + path + "' equal '" + expected + "'");
+    }
+
+    @When("within {int} s(econds), {word} {string} should return status {int}")
+    public void pollUntilStatus(int seconds, String method, String endpoint, int status) {
+        pollUntil(seconds, method, endpoint, response -> response.getStatusCode() == status,
+                "status " + status);
+    }
+
+    // ===================================================================
+    // THEN — Assertions
+    // ===================================================================
+
+    @Then("the resource should have become ready within {long} ms")
+    public void verifyTimeToReady(long maxMs) {
+        PollResult<?> result = context.get(RESULT_KEY);
+        assertThat(result).as("No polling step has run in this scenario").isNotNull();
+        assertThat(result.elapsedMs())
+                .as("Time to ready (%d polls)", result.polls())
+                .isLessThan(maxMs);
+    }
+
+    @Then("the resource should have become ready in at most {int} polls")
+    public void verifyPollCount(int maxPolls) {
+        PollResult<?> result = context.get(RESULT_KEY);
+        assertThat(result).as("No polling step has run in this scenario").isNotNull();
+        assertThat(result.polls())
+                .as("Number of polls")
+                .isLessThanOrEqualTo(maxPolls);
+    }
+
+    // ---- Internal ----
+
+    private void pollUntil(int seconds, String method, String endpoint,
+                           Predicate<ProtocolResponse> condition, String description) {
+        ProtocolRequest template = context.getCurrentRequest().copy()
+                .method(method)
+                .endpoint(context.resolve(endpoint));
+        var client = context.getClientFactory().rest();
+
+        PollResult<ProtocolResponse> result = poller.await(
+                () -> client.execute(template.copy()),
+                condition,
+                Duration.ofSeconds(seconds));
+
+        context.set(RESULT_KEY, result);
+        if (result.lastValue() != null) {
+            context.setLastResponse(result.lastValue());
+        }
+        log.info("{} {} ready={} after {} polls in {} ms", method, template.getEndpoint(),
+                result.ready(), result.polls(), result.elapsedMs());
+
+        if (!result.ready()) {
+            String last = result.lastError() != null ? result.lastError().toString()
+                    : result.lastValue() != null ? "last status " + result.lastValue().getStatusCode() : "no response";
+            throw new AssertionError(String.format("%s %s did not reach %s within %d s (%d polls, %s)",
+                    method, template.getEndpoint(), description, seconds, result.polls(), last));
+        }
+    }
+}
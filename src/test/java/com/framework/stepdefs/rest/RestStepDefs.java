@@ -1,6 +1,16 @@
 package com.framework.stepdefs.rest;
 
+import com.framework.core.client.MultipartPart;
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.client.ProtocolResponse;
+import com.framework.core.context.ResponseHistory;
 import com.framework.core.context.TestContext;
+import com.framework.core.tracing.ServerTiming;
+import com.framework.core.tracing.TraceContext;
+import com.framework.core.validation.JsonAssertions;
+import com.framework.core.validation.JsonExpectation;
+import com.framework.core.validation.JsonSchemaCache;
+import com.framework.protocols.rest.RestClient;
 import com.jayway.jsonpath.JsonPath;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
@@ -9,7 +19,20 @@ import io.cucumber.java.en.When;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,9 +48,11 @@ public class RestStepDefs {
     private static final Logger log = LoggerFactory.getLogger(RestStepDefs.class);
 
     private final TestContext context;
+    private final JsonSchemaCache schemaCache;
 
-    public RestStepDefs(TestContext context) {
+    public RestStepDefs(TestContext context, JsonSchemaCache schemaCache) {
         this.context = context;
+        this.schemaCache = schemaCache;
     }
 
     // ===================================================================
@@ -36,9 +61,8 @@ public class RestStepDefs {
 
     @Given("the REST API base URL is {string}")
     public void setBaseUrl(String baseUrl) {
-        context.getConfig(); // config already loaded
         context.set("rest.base-url.override", baseUrl);
-        io.restassured.RestAssured.baseURI = baseUrl;
+        context.setBaseUrl(baseUrl);
         log.info("Base URL overridden to: {}", baseUrl);
     }
 
@@ -55,12 +79,12 @@ public class RestStepDefs {
 
     @Given("I set query parameter {string} to {string}")
     public void setQueryParam(String name, String value) {
-        context.getCurrentRequest().queryParam(name, value);
+        context.getCurrentRequest().queryParam(name, context.resolve(value));
     }
 
     @Given("I set path parameter {string} to {string}")
     public void setPathParam(String name, String value) {
-        context.getCurrentRequest().pathParam(name, value);
+        context.getCurrentRequest().pathParam(name, context.resolve(value));
     }
 
     @Given("I set request content type to {string}")
@@ -78,6 +102,21 @@ public class RestStepDefs {
         context.getCurrentRequest().basicAuth(user, password);
     }
 
+    @Given("I authenticate as OAuth client {string}")
+    public void setOAuthClient(String clientName) {
+        context.getCurrentRequest().authClient(clientName, null);
+    }
+
+    @Given("I authenticate as OAuth client {string} with scope {string}")
+    public void setOAuthClientWithScope(String clientName, String scope) {
+        context.getCurrentRequest().authClient(clientName, scope);
+    }
+
+    @Given("I send requests without authentication")
+    public void disableAuthentication() {
+        context.getCurrentRequest().authClient(RestClient.NO_AUTH, null);
+    }
+
     @Given("I set the request body to:")
     public void setRequestBody(String body) {
         context.getCurrentRequest().body(body);
@@ -86,21 +125,37 @@ public class RestStepDefs {
         }
     }
 
+    /** The file is streamed from disk when the request is sent, byte for byte */
     @Given("I set the request body from file {string}")
     public void setRequestBodyFromFile(String filePath) {
-        try {
-            var is = Thread.currentThread().getContextClassLoader().getResourceAsStream(filePath);
-            if (is == null) throw new IllegalArgumentException("File not found on classpath: " + filePath);
-            String body = new String(is.readAllBytes());
-            context.getCurrentRequest().body(body);
-            if (context.getCurrentRequest().getContentType() == null) {
-                context.getCurrentRequest().contentType("application/json");
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read request body file: " + filePath, e);
+        Path file = resolveFile(filePath);
+        context.getCurrentRequest().bodyFile(file);
+        if (context.getCurrentRequest().getContentType() == null) {
+            context.getCurrentRequest().contentType(contentTypeOf(file));
         }
     }
 
+    @Given("I attach the file {string} as {string}")
+    public void attachFile(String filePath, String fieldName) {
+        Path file = resolveFile(filePath);
+        context.getCurrentRequest().multipart(MultipartPart.file(fieldName, file, contentTypeOf(file)));
+    }
+
+    @Given("I attach the form field {string} with value {string}")
+    public void attachFormField(String fieldName, String value) {
+        context.getCurrentRequest().multipart(MultipartPart.text(fieldName, context.resolve(value)));
+    }
+
+    @Given("I set the request timeout to {int} ms")
+    public void setRequestTimeout(int timeoutMs) {
+        context.getCurrentRequest().timeoutMs(timeoutMs);
+    }
+
+    @Given("I compress the request body with {word}")
+    public void compressRequestBody(String encoding) {
+        context.getCurrentRequest().contentEncoding(encoding);
+    }
+
     @Given("I store {string} as {string}")
     public void storeValue(String value, String key) {
         context.set(key, value);
@@ -114,7 +169,7 @@ public class RestStepDefs {
     public void sendRequest(String method, String endpoint) {
         context.getCurrentRequest()
                 .method(method)
-                .endpoint(endpoint);
+                .endpoint(context.resolve(endpoint));
         context.executeRest();
     }
 
@@ -122,7 +177,7 @@ public class RestStepDefs {
     public void sendRequestWithBody(String method, String endpoint, String body) {
         context.getCurrentRequest()
                 .method(method)
-                .endpoint(endpoint)
+                .endpoint(context.resolve(endpoint))
                 .body(body);
         if (context.getCurrentRequest().getContentType() == null) {
             context.getCurrentRequest().contentType("application/json");
@@ -130,6 +185,78 @@ public class RestStepDefs {
         context.executeRest();
     }
 
+    @When("I send a {word} request to {string} service {string}")
+    public void sendServiceRequest(String method, String service, String endpoint) {
+        context.getCurrentRequest()
+                .method(method)
+                .endpoint(context.resolve(endpoint));
+        context.executeRest(service);
+    }
+
+    @When("I send a {word} request to {string} service {string} with body:")
+    public void sendServiceRequestWithBody(String method, String service, String endpoint, String body) {
+        context.getCurrentRequest()
+                .method(method)
+                .endpoint(context.resolve(endpoint))
+                .body(body);
+        if (context.getCurrentRequest().getContentType() == null) {
+            context.getCurrentRequest().contentType("application/json");
+        }
+        context.executeRest(service);
+    }
+
+    /**
+     * Send one request per row at the same time, each to its service's own
+     * client, with the current request's headers and credentials. The
+     * responses are recorded in row order once all are in, each saved under
+     * its {@code save as} name (if given); the last row's is the last response.
+     * <pre>
+     * | service | method | endpoint  | save as |
+     * | orders  | GET    | /orders/1 | order   |
+     * | users   | GET    | /users/7  | user    |
+     * </pre>
+     */
+    @When("I send these requests concurrently:")
+    public void sendConcurrently(DataTable table) throws InterruptedException {
+        List<Map<String, String>> rows = table.asMaps();
+        List<Future<ProtocolResponse>> pending = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map<String, String> row : rows) {
+                ProtocolRequest request = context.getCurrentRequest().copy()
+                        .method(row.get("method"))
+                        .endpoint(context.resolve(row.get("endpoint")));
+                pending.add(executor.submit(() -> context.executeOn("REST", row.get("service"), request)));
+            }
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                context.setLastResponse(pending.get(i).get());
+            } catch (ExecutionException e) {
+                throw new AssertionError("Request to service '" + rows.get(i).get("service") + "' failed: "
+                        + e.getCause().getMessage(), e.getCause());
+            }
+            String name = rows.get(i).get("save as");
+            if (name != null && !name.isBlank()) {
+                context.saveLastResponse(name);
+            }
+        }
+        log.info("Sent {} requests concurrently to services {}", rows.size(),
+                rows.stream().map(row -> row.get("service")).distinct().toList());
+    }
+
+    /**
+     * POST the file as a multipart/form-data upload, together with any parts
+     * attached before.
+     */
+    @When("I upload the file {string} as {string} to {string}")
+    public void uploadFile(String filePath, String fieldName, String endpoint) {
+        attachFile(filePath, fieldName);
+        context.getCurrentRequest()
+                .method("POST")
+                .endpoint(context.resolve(endpoint));
+        context.executeRest();
+    }
+
     // ===================================================================
     // THEN — Assertions
     // ===================================================================
@@ -189,6 +316,13 @@ public class RestStepDefs {
                 .isLessThan(maxMs);
     }
 
+    @Then("the response time should be at least {long} ms")
+    public void verifyMinResponseTime(long minMs) {
+        assertThat(context.getLastResponse().getResponseTimeMs())
+                .as("Response time in milliseconds")
+                .isGreaterThanOrEqualTo(minMs);
+    }
+
     @Then("the response content type should be {string}")
     public void verifyContentType(String expected) {
         assertThat(context.getLastResponse().getContentType())
@@ -196,6 +330,62 @@ public class RestStepDefs {
                 .containsIgnoringCase(expected);
     }
 
+    // ---- Compression assertions ----
+
+    @Then("the response should be compressed with {word}")
+    public void verifyContentEncoding(String encoding) {
+        assertThat(context.getLastResponse().getHeader("Content-Encoding"))
+                .as("Response Content-Encoding")
+                .isEqualToIgnoringCase(encoding);
+    }
+
+    @Then("the response compression ratio should be at least {double}x")
+    public void verifyCompressionRatio(double minRatio) {
+        var response = context.getLastResponse();
+        assertThat(response.getCompressionRatio())
+                .as("Compression ratio (%d bytes on the wire, %d bytes uncompressed)",
+                        response.getCompressedSize(), response.getUncompressedSize())
+                .isGreaterThanOrEqualTo(minRatio);
+    }
+
+    @Then("the response wire size should be less than {long} bytes")
+    public void verifyWireSize(long maxBytes) {
+        assertThat(context.getLastResponse().getCompressedSize())
+                .as("Response body bytes on the wire")
+                .isLessThan(maxBytes);
+    }
+
+    // ---- Tracing assertions ----
+
+    @Then("the request should have been sent with the scenario trace id")
+    public void requestCarriedScenarioTrace() {
+        String traceparent = context.getLastResponse().getTraceparent();
+        assertThat(traceparent)
+                .as("traceparent header sent")
+                .matches("00-[0-9a-f]{32}-[0-9a-f]{16}-0[01]");
+        assertThat(TraceContext.traceIdOf(traceparent))
+                .as("Trace id of the request")
+                .isEqualTo(context.getTrace().traceId());
+    }
+
+    @Then("the response should have server timing {string}")
+    public void hasServerTiming(String metric) {
+        assertThat(context.getLastResponse().getServerTiming(metric))
+                .as("Server-Timing metric '%s' in %s", metric, context.getLastResponse().getServerTimings())
+                .isNotNull();
+    }
+
+    @Then("the server timing {string} should be less than {double} ms")
+    public void serverTimingBelow(String metric, double maxMs) {
+        ServerTiming timing = context.getLastResponse().getServerTiming(metric);
+        assertThat(timing)
+                .as("Server-Timing metric '%s' in %s", metric, context.getLastResponse().getServerTimings())
+                .isNotNull();
+        assertThat(timing.durationMs())
+                .as("Server-Timing '%s' duration (ms)", metric)
+                .isLessThan(maxMs);
+    }
+
     // ---- JSON Path assertions ----
 
     @Then("the JSON path {string} should equal {string}")
@@ -248,6 +438,33 @@ public class RestStepDefs {
                 .contains(expected);
     }
 
+    /**
+     * Evaluate all rows in a single pass over the response:
+     * <pre>
+     * Then the JSON response should satisfy:
+     *   | path            | operator | expected |
+     *   | $.id            | ==       | 1        |
+     *   | $.items[*].id   | >        | 0        |
+     *   | $.items         | size     | 100      |
+     *   | $.error         | absent   |          |
+     * </pre>
+     * Every row is checked and all failures are reported together.
+     */
+    @Then("the JSON response should satisfy:")
+    public void jsonResponseSatisfies(DataTable table) {
+        List<JsonExpectation> expectations = new ArrayList<>();
+        for (List<String> row : table.asLists()) {
+            if (row.isEmpty() || "path".equalsIgnoreCase(row.get(0))) continue; // header
+            String expected = row.size() > 2 && row.get(2) != null ? row.get(2) : "";
+            expectations.add(JsonExpectation.of(row.get(0), row.get(1), expected));
+        }
+        long threshold = context.getConfig().getLong("json.streaming-threshold-bytes", 1_048_576);
+        List<String> failures = JsonAssertions.verify(context.getLastResponse(), expectations, threshold);
+        assertThat(failures)
+                .as("%d of %d JSON assertions failed", failures.size(), expectations.size())
+                .isEmpty();
+    }
+
     // ---- Store response data for later steps ----
 
     @Then("I store the JSON path {string} as {string}")
@@ -265,20 +482,101 @@ public class RestStepDefs {
         log.info("Stored header '{}' = '{}' as '{}'", headerName, value, key);
     }
 
+    @Then("I save the response as {string}")
+    public void saveResponse(String name) {
+        context.saveLastResponse(name);
+        log.info("Saved response as '{}' — history: {}", name, context.getHistory().describe());
+    }
+
+    @When("I use the saved response {string}")
+    public void useSavedResponse(String name) {
+        context.useSavedResponse(name);
+    }
+
+    @Then("the saved response {string} should have status code {int}")
+    public void savedResponseStatus(String name, int expected) {
+        // Works for summarized entries too: status and headers are always kept
+        ResponseHistory.Entry entry = context.getHistory().get(name);
+        assertThat(entry).as("Saved response '%s'", name).isNotNull();
+        assertThat(entry.statusCode())
+                .as("Status code of saved response '%s'", name)
+                .isEqualTo(expected);
+    }
+
+    @Then("the JSON path {string} of the saved response {string} should equal {string}")
+    public void savedJsonPathEquals(String path, String name, String expected) {
+        Object actual = JsonPath.read(context.getSavedResponse(name).getBody(), path);
+        assertThat(String.valueOf(actual))
+                .as("JSON path '%s' of saved response '%s'", path, name)
+                .isEqualTo(expected);
+    }
+
     // ---- Response body schema / structure ----
 
     @Then("the response body should be valid JSON")
     public void responseIsValidJson() {
-        String body = context.getLastResponse().getBody();
         try {
-            new com.fasterxml.jackson.databind.ObjectMapper().readTree(body);
+            context.getLastResponse().getBodyAsJson();
         } catch (Exception e) {
             throw new AssertionError("Response body is not valid JSON: " + e.getMessage());
         }
     }
 
+    @Then("the response should match schema {string}")
+    public void responseMatchesSchema(String schemaLocation) {
+        List<String> errors = schemaCache.validate(schemaLocation, context.getLastResponse().getBodyAsJson());
+        assertThat(errors)
+                .as("Response should match JSON schema '%s'", schemaLocation)
+                .isEmpty();
+    }
+
     @Then("I print the response body")
     public void printResponseBody() {
         log.info("Response body:\n{}", context.getLastResponse().getBody());
     }
+
+    // ===================================================================
+    // Internal
+    // ===================================================================
+
+    /**
+     * A file on the class path or, failing that, on the file system.
+     * Class path resources inside a jar are copied out to a temporary file
+     * so that they can be streamed like any other.
+     */
+    private static Path resolveFile(String path) {
+        URL resource = Thread.currentThread().getContextClassLoader().getResource(path);
+        try {
+            if (resource != null && "file".equals(resource.getProtocol())) {
+                return Path.of(resource.toURI());
+            }
+            Path file = Path.of(path);
+            if (Files.isRegularFile(file)) {
+                return file;
+            }
+            if (resource != null) {
+                Path copy = Files.createTempFile("request-body-", "-" + file.getFileName());
+                copy.toFile().deleteOnExit();
+                try (InputStream in = resource.openStream()) {
+                    Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return copy;
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Failed to open file: " + path, e);
+        }
+        throw new IllegalArgumentException("File not found on classpath or file system: " + path);
+    }
+
+    private static String contentTypeOf(Path file) {
+        if (file.getFileName().toString().endsWith(".json")) {
+            return "application/json";
+        }
+        try {
+            String probed = Files.probeContentType(file);
+            return probed != null ? probed : "application/octet-stream";
+        } catch (IOException e) {
+            return "application/octet-stream";
+        }
+    }
 }
@@ -0,0 +1,240 @@
+package com.framework.stepdefs.stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Minimal in-process WebSocket and SSE server so the streaming steps can be
+ * exercised without an external service. One virtual thread per connection.
+ * <p>
+ * Endpoints (messages are JSON {@code {"seq":n,"ts":<epoch millis>}}):
+ * <ul>
+ *   <li>{@code /ws/ticks?count=N&intervalMs=M} — WebSocket, N messages, then close</li>
+ *   <li>{@code /ws/echo} — WebSocket, echoes every text message</li>
+ *   <li>{@code /sse/ticks?count=N&intervalMs=M} — SSE, N events, then end of stream</li>
+ * </ul>
+ * Only what the JDK client needs is implemented: unfragmented frames,
+ * no extensions, no TLS.
+ */
+final class LocalStreamServer {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalStreamServer.class);
+
+    private static final String WS_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private static volatile LocalStreamServer instance;
+
+    private final ServerSocket server;
+
+    private LocalStreamServer() throws IOException {
+        server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        Thread.ofVirtual().name("local-stream-server").start(this::acceptLoop);
+        log.info("Local streaming server listening on {}", baseUrl());
+    }
+
+    /** The JVM-wide server, started on first use */
+    static LocalStreamServer get() throws IOException {
+        if (instance == null) {
+            synchronized (LocalStreamServer.class) {
+                if (instance == null) {
+                    instance = new LocalStreamServer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    String baseUrl() {
+        return "http://" + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().start(() -> handle(socket));
+            } catch (IOException e) {
+                if (!server.isClosed()) log.warn("Local streaming server accept failed: {}", e.toString());
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+
+            String requestLine = readLine(in);
+            Map<String, String> headers = new HashMap<>();
+            for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+                int colon = line.indexOf(':');
+                if (colon > 0) headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+            URI uri = URI.create(requestLine.split(" ")[1]);
+            Map<String, String> query = query(uri.getRawQuery());
+            int count = Integer.parseInt(query.getOrDefault("count", "10"));
+            long intervalMs = Long.parseLong(query.getOrDefault("intervalMs", "10"));
+
+            switch (uri.getPath()) {
+                case "/ws/ticks" -> {
+                    handshake(headers, out);
+                    Thread.ofVirtual().start(() -> drainFrames(in, out, false));
+                    for (int i = 1; i <= count; i++) {
+                        writeFrame(out, 0x1, tick(i).getBytes(StandardCharsets.UTF_8));
+                        sleep(intervalMs);
+                    }
+                    writeFrame(out, 0x8, new byte[]{0x03, (byte) 0xE8});
+                    sleep(100);
+                }
+                case "/ws/echo" -> {
+                    handshake(headers, out);
+                    drainFrames(in, out, true);
+                }
+                case "/sse/ticks" -> {
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Type: text/event-stream\r\n"
+                            + "Cache-Control: no-cache\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                    out.write(": local stream\n\n".getBytes(StandardCharsets.UTF_8));
+                    for (int i = 1; i <= count; i++) {
+                        out.write(("event: tick\nid: " + i + "\ndata: " + tick(i) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                        sleep(intervalMs);
+                    }
+                }
+                default -> out.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\nConnection: close\r\n\r\n"
+                        .getBytes(StandardCharsets.US_ASCII));
+            }
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Local streaming connection ended: {}", e.toString());
+        }
+    }
+
+    private static void handshake(Map<String, String> headers, OutputStream out) throws IOException {
+        String key = headers.get("sec-websocket-key");
+        if (key == null) throw new IOException("Not a WebSocket upgrade");
+        String accept;
+        try {
+            accept = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-1")
+                    .digest((key + WS_GUID).getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * Read client frames until close; answers pings and close, and echoes text if asked.
+     */
+    private static void drainFrames(InputStream in, OutputStream out, boolean echo) {
+        DataInputStream data = new DataInputStream(in);
+        try {
+            while (true) {
+                int b0 = data.readUnsignedByte();
+                int b1 = data.readUnsignedByte();
+                int opcode = b0 & 0x0F;
+                long length = b1 & 0x7F;
+                if (length == 126) length = data.readUnsignedShort();
+                else if (length == 127) length = data.readLong();
+                byte[] mask = new byte[4];
+                if ((b1 & 0x80) != 0) data.readFully(mask);
+                byte[] payload = new byte[(int) length];
+                data.readFully(payload);
+                for (int i = 0; i < payload.length; i++) payload[i] ^= mask[i % 4];
+
+                switch (opcode) {
+                    case 0x8 -> {
+                        writeFrame(out, 0x8, payload);
+                        return;
+                    }
+                    case 0x9 -> writeFrame(out, 0xA, payload);
+                    case 0x1 -> {
+                        if (echo) writeFrame(out, 0x1, payload);
+                    }
+                    default -> { /* pong, binary, continuation: ignored */ }
+                }
+            }
+        } catch (EOFException e) {
+            // client went away
+        } catch (IOException e) {
+            log.debug("Local WebSocket read ended: {}", e.toString());
+        }
+    }
+
+    /** Unmasked server frame with FIN set */
+    private static void writeFrame(OutputStream out, int opcode, byte[] payload) throws IOException {
+        synchronized (out) {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + 10);
+            frame.write(0x80 | opcode);
+            if (payload.length < 126) {
+                frame.write(payload.length);
+            } else if (payload.length <= 0xFFFF) {
+                frame.write(126);
+                frame.write(payload.length >>> 8);
+                frame.write(payload.length);
+            } else {
+                frame.write(127);
+                for (int shift = 56; shift >= 0; shift -= 8) frame.write((int) ((long) payload.length >>> shift));
+            }
+            frame.write(payload);
+            out.write(frame.toByteArray());
+            out.flush();
+        }
+    }
+
+    private static String tick(int seq) {
+        return "{\"seq\":" + seq + ",\"ts\":" + System.currentTimeMillis() + "}";
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (c != '\r') sb.append((char) c);
+        }
+        if (c == -1 && sb.isEmpty()) throw new EOFException();
+        return sb.toString();
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) params.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        return params;
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.framework.stepdefs.stream;
+
+import com.framework.core.client.ProtocolRequest;
+import com.framework.core.context.TestContext;
+import com.framework.core.metrics.LatencyStats;
+import com.framework.protocols.stream.StreamClient;
+import com.framework.protocols.stream.StreamMessage;
+import com.framework.protocols.stream.Subscription;
+import io.cucumber.java.After;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for WebSocket and Server-Sent Events streams, backed by
+ * the {@link StreamClient} ({@code STREAM} protocol).
+ *
+ * <pre>
+ * Given a local streaming server is running
+ * When I subscribe to WebSocket "/ws/ticks?count=50&amp;intervalMs=5" as "ticks"
+ * Then stream "ticks" should receive 50 messages within 5000 ms
+ * And the p95 end-to-end latency on stream "ticks" should be less than 200 ms
+ * </pre>
+ */
+public class StreamStepDefs {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamStepDefs.class);
+
+    private static final String SUBSCRIPTION_KEY = "stream.subscription.";
+
+    private final TestContext context;
+    private final String timestampField;
+
+    /** Subscriptions opened by this scenario and not closed yet */
+    private final Set<String> open = new LinkedHashSet<>();
+
+    public StreamStepDefs(TestContext context) {
+        this.context = context;
+        this.timestampField = context.getConfig().getString("stream.timestamp-field", "ts");
+    }
+
+    // ===================================================================
+    // GIVEN — Setup
+    // ===================================================================
+
+    @Given("a local streaming server is running")
+    public void localServer() throws IOException {
+        String baseUrl = LocalStreamServer.get().baseUrl();
+        context.setBaseUrl(baseUrl);
+        log.info("Streaming against local server {}", baseUrl);
+    }
+
+    // ===================================================================
+    // WHEN — Subscribe and send
+    // ===================================================================
+
+    @When("I subscribe to WebSocket {string} as {string}")
+    public void subscribeWebSocket(String endpoint, String name) {
+        subscribe(endpoint, name, Subscription.Transport.WEBSOCKET);
+    }
+
+    @When("I subscribe to SSE {string} as {string}")
+    public void subscribeSse(String endpoint, String name) {
+        subscribe(endpoint, name, Subscription.Transport.SSE);
+    }
+
+    @When("I send {string} on stream {string}")
+    public void send(String message, String name) {
+        context.newRequest()
+                .method("SEND")
+                .endpoint(name)
+                .body(context.resolve(message))
+                .extra(StreamClient.SUBSCRIPTION, name);
+        context.execute("STREAM");
+    }
+
+    @When("I close stream {string}")
+    public void close(String name) {
+        context.newRequest()
+                .method("UNSUBSCRIBE")
+                .endpoint(name)
+                .extra(StreamClient.SUBSCRIPTION, name);
+        context.execute("STREAM");
+        open.remove(name);
+    }
+
+    /**
+     * The stream client is shared by all scenarios: close whatever this
+     * scenario left open. Subscriptions are owned by the scenario's trace,
+     * so only this scenario's are affected. Runs before the scenario's
+     * context is cleaned up.
+     */
+    @After(order = 20000)
+    public void closeOpenStreams() {
+        open.forEach(name -> context.getClientFactory().getClient("STREAM").execute(new ProtocolRequest()
+                .trace(context.getTrace())
+                .method("UNSUBSCRIBE")
+                .endpoint(name)
+                .extra(StreamClient.SUBSCRIPTION, name)));
+        open.clear();
+    }
+
+    // ===================================================================
+    // THEN — Stream assertions
+    // ===================================================================
+
+    @Then("stream {string} should receive {int} message(s) within {int} ms")
+    public void receiveWithin(String name, int count, int timeoutMs) throws InterruptedException {
+        Subscription sub = subscription(name);
+        List<StreamMessage> received = sub.await(count, Duration.ofMillis(timeoutMs));
+        log.info("Stream '{}': took {} of {} messages; {}", name, received.size(), count, sub);
+        assertThat(received)
+                .as("Messages on stream '%s' within %d ms (%s)", name, timeoutMs, sub)
+                .hasSize(count);
+    }
+
+    @Then("the message rate on stream {string} should be at least {double} per second")
+    public void messageRate(String name, double minPerSecond) {
+        Subscription sub = subscription(name);
+        assertThat(sub.messageRate())
+                .as("Message rate on stream '%s' over %d messages (per second)", name, sub.consumed().size())
+                .isGreaterThanOrEqualTo(minPerSecond);
+    }
+
+    @Then("the p95 end-to-end latency on stream {string} should be less than {long} ms")
+    public void endToEndLatency(String name, long maxMs) {
+        LatencyStats stats = subscription(name).endToEndLatency(timestampField);
+        log.info("Stream '{}' end-to-end latency: {}", name, stats);
+        assertThat(stats.count())
+                .as("Messages on stream '%s' with a '%s' timestamp", name, timestampField)
+                .isPositive();
+        assertThat(stats.p95Ms())
+                .as("p95 end-to-end latency on stream '%s' (ms)", name)
+                .isLessThan(maxMs);
+    }
+
+    @Then("a message on stream {string} should contain {string}")
+    public void messageContains(String name, String expected) {
+        String text = context.resolve(expected);
+        assertThat(subscription(name).consumed())
+                .as("Messages received on stream '%s'", name)
+                .anyMatch(m -> m.data().contains(text));
+    }
+
+    @Then("stream {string} should not have dropped messages")
+    public void noneDropped(String name) {
+        assertThat(subscription(name).droppedCount())
+                .as("Messages dropped on stream '%s' because the buffer was full", name)
+                .isZero();
+    }
+
+    // ---- Internal ----
+
+    private void subscribe(String endpoint, String name, Subscription.Transport transport) {
+        context.newRequest()
+                .method("SUBSCRIBE")
+                .endpoint(context.resolve(endpoint))
+                .extra(StreamClient.SUBSCRIPTION, name)
+                .extra(StreamClient.TRANSPORT, transport.name());
+        Subscription sub = (Subscription) context.execute("STREAM").getExtras().get(StreamClient.SUBSCRIPTION);
+        context.set(SUBSCRIPTION_KEY + name, sub);
+        open.add(name);
+    }
+
+    private Subscription subscription(String name) {
+        Subscription sub = context.get(SUBSCRIPTION_KEY + name);
+        if (sub == null) {
+            throw new IllegalArgumentException("No stream subscription named '" + name + "' in this scenario");
+        }
+        return sub;
+    }
+}
@@ -0,0 +1,26 @@
+@rest
+Feature: Streaming data-driven REST requests
+  As a QA engineer
+  I want to drive requests from large CSV/JSONL files
+  So that big regression datasets do not need one scenario per row
+
+  Background:
+    Given the REST API base URL is "https://jsonplaceholder.typicode.com"
+
+  Scenario: POST every row of a JSONL file
+    Given data-driven concurrency is 2
+    And each data-driven response should have status code 201
+    And each data-driven response should match:
+      | $.title  | {title}  |
+      | $.userId | {userId} |
+    When for each row in "data/posts.jsonl" I send a POST request to "/posts"
+    Then the data-driven run should have no failures
+    And the data-driven run should have processed 5 rows
+
+  Scenario: GET a resource per CSV row using row placeholders
+    Given each data-driven response should have status code 200
+    And each data-driven response should match:
+      | $.name | {name} |
+    When for each row in "data/users.csv" I send a GET request to "/users/{id}"
+    Then the data-driven run should have no failures
+    And the data-driven p95 latency should be less than 10000 ms
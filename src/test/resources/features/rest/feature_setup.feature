@@ -0,0 +1,19 @@
+@rest @shared-user
+Feature: Setup shared by all scenarios of a feature
+  As a QA engineer
+  I want expensive setup to run once per feature instead of once per scenario
+  So that large features spend their time on the scenarios themselves
+
+  # SharedUserFixture looks up the user once, before the first scenario,
+  # and publishes {userId} and {username} to every scenario of this feature.
+
+  Scenario: Use the shared user in the path
+    When I send a GET request to "/users/{userId}"
+    Then the response status code should be 200
+    And the JSON path "$.username" should equal "Bret"
+
+  Scenario: Use the shared user in a query parameter
+    Given I set query parameter "userId" to "{userId}"
+    When I send a GET request to "/posts"
+    Then the response status code should be 200
+    And the JSON path "$" should have 10 items
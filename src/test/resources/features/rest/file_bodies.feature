@@ -0,0 +1,18 @@
+@rest
+Feature: File-backed and multipart request bodies
+  Request bodies read from files are streamed from disk byte for byte,
+  so large or binary payloads are neither corrupted nor held on the heap.
+
+  Background:
+    Given the REST API base URL is "https://jsonplaceholder.typicode.com"
+
+  Scenario: POST a request body from a file
+    Given I set the request body from file "data/new-post.json"
+    When I send a POST request to "/posts"
+    Then the response status code should be 201
+    And the JSON path "$.title" should equal "Post from a file"
+
+  Scenario: Upload a file as multipart/form-data
+    Given I attach the form field "description" with value "user export"
+    When I upload the file "data/users.csv" as "file" to "/posts"
+    Then the response status code should be 201
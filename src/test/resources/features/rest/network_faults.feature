@@ -0,0 +1,40 @@
+@rest @network
+Feature: Behaviour under degraded network conditions
+  As a QA engineer
+  I want to slow down and break the connection to the API on localhost
+  So that timeouts and latency budgets are verified without external tools
+
+  Background:
+    Given the REST API base URL is "https://jsonplaceholder.typicode.com"
+
+  Scenario: Added latency shows up in the response time
+    Given the network adds 300 ms latency
+    When I send a GET request to "/posts/1"
+    Then the response status code should be 200
+    And the response time should be at least 300 ms
+
+  Scenario: Limited bandwidth slows down large responses
+    Given the network limits bandwidth to 0.5 Mbps
+    And I set header "Accept-Encoding" to "identity"
+    When I send a GET request to "/posts"
+    Then the response status code should be 200
+    And the response time should be at least 300 ms
+    And the JSON path "$" should have 100 items
+
+  Scenario: A slow network trips the request timeout
+    Given the network adds 2000 ms latency
+    And I set the request timeout to 1000 ms
+    When I send a GET request to "/posts/1" expecting a failure
+    Then the request should have failed with a timeout
+    And the request should have failed within 2500 ms
+
+  Scenario: Connection reset while reading the response
+    Given the network resets connections after 0 response bytes
+    When I send a GET request to "/posts/1" expecting a failure
+    Then the request should have failed with a reset
+
+  Scenario: Partial response
+    Given the network cuts responses off after 12000 bytes
+    And I set header "Accept-Encoding" to "identity"
+    When I send a GET request to "/posts" expecting a failure
+    Then the request should have failed with a disconnect
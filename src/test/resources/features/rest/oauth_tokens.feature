@@ -0,0 +1,41 @@
+@rest @auth
+Feature: Shared OAuth token cache
+  Tokens come from one JVM-wide cache: parallel requests share a single
+  token request, a token rejected with 401 is refreshed once, and a failed
+  early refresh keeps using the still-valid token.
+
+  Scenario: Concurrent requests share one token request
+    Given a local OAuth server issues tokens for client "single-flight"
+    And the local OAuth server takes 300 ms to issue a token
+    When 20 concurrent GET requests are sent to the protected resource
+    Then all concurrent responses should have status code 200
+    And the local OAuth server should have received 1 token request
+
+  Scenario: A token rejected with 401 is refreshed and the request retried
+    Given a local OAuth server issues tokens for client "revoked-token"
+    When I send a GET request to the protected resource
+    Then the response status code should be 200
+    When the local OAuth server revokes the issued tokens
+    And I send a GET request to the protected resource
+    Then the response status code should be 200
+    And the JSON path "$.token" should equal "revoked-token-2"
+    And the local OAuth server should have received 2 token requests
+
+  Scenario: A short-lived token is reused, not fetched for every request
+    Given a local OAuth server issues tokens for client "short-lived" valid for 10 seconds
+    When I send 5 GET requests to the protected resource
+    Then the response status code should be 200
+    And the JSON path "$.token" should equal "short-lived-1"
+    And the local OAuth server should have received 1 token request
+
+  Scenario: A failed early refresh keeps the still-valid token
+    Given a local OAuth server issues tokens for client "early-refresh" valid for 4 seconds
+    And the OAuth client refreshes its token 3 seconds before expiry
+    When I send a GET request to the protected resource
+    Then the response status code should be 200
+    When the local OAuth server fails token requests
+    And I wait 2100 ms
+    And I send a GET request to the protected resource
+    Then the response status code should be 200
+    And the JSON path "$.token" should equal "early-refresh-1"
+    And the local OAuth server should have received 2 token requests
@@ -17,6 +17,7 @@ Feature: Sample REST API Tests
     And the response body should be valid JSON
     And the JSON path "$.name" should not be empty
     And the JSON path "$.id" should equal 1
+    And the response should match schema "schemas/user.json"
     And the response time should be less than 10000 ms
 
   Scenario: GET all posts
@@ -24,6 +25,19 @@ Feature: Sample REST API Tests
     Then the response status code should be 200
     And the response content type should be "application/json"
     And the JSON path "$" should not be empty
+    And the response should match schema "schemas/post-list.json"
+
+  Scenario: GET all posts with several JSON assertions in one pass
+    When I send a GET request to "/posts"
+    Then the response status code should be 200
+    And the JSON response should satisfy:
+      | path                      | operator  | expected |
+      | $                         | size      | 100      |
+      | $[0].id                   | ==        | 1        |
+      | $[*].userId               | >=        | 1        |
+      | $[*].title                | not empty |          |
+      | $[?(@.userId == 10)].id   | size      | 10       |
+      | $[0].author               | absent    |          |
 
   Scenario: GET posts with query parameter
     Given I set query parameter "userId" to "1"
@@ -92,6 +106,23 @@ Feature: Sample REST API Tests
     And I store the JSON path "$.id" as "newPostId"
     And I print the response body
 
+  Scenario: Refer back to an earlier response
+    When I send a GET request to "/users/1"
+    Then the response status code should be 200
+    And I save the response as "author"
+    When I send a GET request to "/posts/1"
+    Then the response status code should be 200
+    And the saved response "author" should have status code 200
+    And the JSON path "$.name" of the saved response "author" should equal "Leanne Graham"
+    When I use the saved response "author"
+    Then the JSON path "$.id" should equal 1
+
+  Scenario: Poll a resource until it reaches the expected state
+    Given I store "1" as "postId"
+    When within 10 s, GET "/posts/{postId}" should have JSON path "$.userId" equal "1"
+    Then the resource should have become ready in at most 3 polls
+    And the response status code should be 200
+
   # -------------------------------------------------------
   # Headers and authentication (example structure)
   # -------------------------------------------------------
@@ -103,3 +134,20 @@ Feature: Sample REST API Tests
     When I send a GET request to "/users/1"
     Then the response status code should be 200
     And the response body should contain "Leanne Graham"
+
+  Scenario: Requests carry the scenario's trace context
+    When I send a GET request to "/users/1"
+    Then the response status code should be 200
+    And the request should have been sent with the scenario trace id
+
+  # -------------------------------------------------------
+  # Compression
+  # -------------------------------------------------------
+
+  Scenario: Large list responses are gzip-compressed on the wire
+    Given I set header "Accept-Encoding" to "gzip"
+    When I send a GET request to "/posts"
+    Then the response status code should be 200
+    And the response should be compressed with gzip
+    And the response compression ratio should be at least 3x
+    And the JSON path "$" should have 100 items
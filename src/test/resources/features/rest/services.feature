@@ -0,0 +1,29 @@
+@rest
+Feature: Named REST services
+  Each service under rest.services has its own client, so one scenario
+  can call several services, one after another or at the same time.
+
+  Scenario: Call two services in turn
+    When I send a GET request to "posts" service "/posts/1"
+    Then the response status code should be 200
+    And the JSON path "$.id" should equal "1"
+    When I send a GET request to "users" service "/users/1"
+    Then the response status code should be 200
+    And the JSON path "$.username" should equal "Bret"
+
+  Scenario: Create a post through a service
+    When I send a POST request to "posts" service "/posts" with body:
+      """
+      {"title": "Service post", "body": "bar", "userId": 1}
+      """
+    Then the response status code should be 201
+
+  Scenario: Call services concurrently
+    When I send these requests concurrently:
+      | service | method | endpoint  | save as |
+      | posts   | GET    | /posts/1  | post    |
+      | users   | GET    | /users/1  | user    |
+      | posts   | GET    | /posts/2  | second  |
+    Then the saved response "post" should have status code 200
+    And the saved response "user" should have status code 200
+    And the JSON path "$.id" of the saved response "second" should equal "2"
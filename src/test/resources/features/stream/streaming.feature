@@ -0,0 +1,31 @@
+@stream
+Feature: WebSocket and Server-Sent Events streams
+  As a QA engineer
+  I want to subscribe to pushed updates and measure how fast they arrive
+  So that streaming endpoints are tested like request/response APIs
+
+  Background:
+    Given a local streaming server is running
+
+  Scenario: Receive a burst of WebSocket messages
+    When I subscribe to WebSocket "/ws/ticks?count=100&intervalMs=5" as "ticks"
+    Then stream "ticks" should receive 100 messages within 5000 ms
+    And the message rate on stream "ticks" should be at least 50 per second
+    And the p95 end-to-end latency on stream "ticks" should be less than 250 ms
+    And stream "ticks" should not have dropped messages
+
+  @soak
+  Scenario: Receive Server-Sent Events
+    When I subscribe to SSE "/sse/ticks?count=50&intervalMs=10" as "events"
+    Then stream "events" should receive 50 messages within 5000 ms
+    And a message on stream "events" should contain "\"seq\":50"
+    And the p95 end-to-end latency on stream "events" should be less than 250 ms
+
+  @soak
+  Scenario: Send and receive on the same WebSocket
+    When I subscribe to WebSocket "/ws/echo" as "echo"
+    And I send "hello stream" on stream "echo"
+    Then stream "echo" should receive 1 message within 2000 ms
+    And a message on stream "echo" should contain "hello stream"
+    When I close stream "echo"
+    Then the response status code should be 200